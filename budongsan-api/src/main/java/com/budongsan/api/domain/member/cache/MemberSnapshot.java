@@ -0,0 +1,28 @@
+package com.budongsan.api.domain.member.cache;
+
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.member.MemberRole;
+
+/**
+ * 캐시에 저장하는 회원 스냅샷 (엔티티 대신 필요한 값만)
+ *
+ * 비밀번호 해시는 일부러 제외 → Redis에 비밀번호 관련 정보가 올라가지 않음
+ * (로그인은 BCrypt 비용이 DB 조회보다 훨씬 커서 캐시 이득도 거의 없음)
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String name,
+        MemberRole role,
+        Long teamId
+) {
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getRole(),
+                member.getTeamId()
+        );
+    }
+}
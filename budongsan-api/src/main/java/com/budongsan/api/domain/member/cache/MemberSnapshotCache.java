@@ -0,0 +1,210 @@
+package com.budongsan.api.domain.member.cache;
+
+import com.budongsan.api.domain.member.repository.MemberRepository;
+import com.budongsan.core.domain.member.MemberChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 스냅샷 2단 캐시 (이메일 → MemberSnapshot)
+ *
+ * 조회 순서 (read-through):
+ * L1 (서버 내 Caffeine, 크기 제한 + W-TinyLFU) → L2 (Redis) → DB
+ *
+ * 무효화:
+ * 가입 / 팀 가입 / 팀 탈퇴 → MemberChangedEvent (커밋 후)
+ *   → Redis 키 삭제 + 버전 증가 + "member-cache:invalidate" 채널에 이메일 발행
+ *   → 모든 API 서버가 메시지를 받아 자기 L1에서 제거
+ *
+ * 오래된 스냅샷 되살아남 방지:
+ * 커밋 전 값을 DB에서 읽은 조회가 무효화 이후에 L2를 쓰면 redis-ttl 동안 남음
+ * → L2와 함께 버전(MEMBERVER:{email})을 읽어두고, DB 조회 후 버전이 그대로일 때만 저장 (Lua compare-and-set)
+ * → 저장이 거절되면 L1에 넣었던 것도 제거
+ *
+ * 메트릭:
+ * - cache.gets{cache=member.snapshot.l1, result=hit|miss} 등 (Caffeine 통계)
+ * - member.snapshot.l2{result=hit|miss}
+ */
+@Slf4j
+@Component
+public class MemberSnapshotCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "member-cache:invalidate";
+
+    // Redis Key 접두사 (Value: MemberSnapshot JSON / 무효화 버전)
+    private static final String KEY_PREFIX = "MEMBER:";
+    private static final String VERSION_PREFIX = "MEMBERVER:";
+    private static final String NO_VERSION = "0";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisScript<Long> memberCacheWriteScript;
+    private final RedisScript<Long> memberCacheEvictScript;
+    private final Duration redisTtl;
+
+    private final Cache<String, MemberSnapshot> local;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public MemberSnapshotCache(
+            MemberRepository memberRepository,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            RedisScript<Long> memberCacheWriteScript,
+            RedisScript<Long> memberCacheEvictScript,
+            MeterRegistry meterRegistry,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${member-cache.local-size:10000}") long localSize,
+            @Value("${member-cache.local-ttl:10m}") Duration localTtl,
+            @Value("${member-cache.redis-ttl:1h}") Duration redisTtl
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.memberCacheWriteScript = memberCacheWriteScript;
+        this.memberCacheEvictScript = memberCacheEvictScript;
+        this.redisTtl = redisTtl;
+
+        // Pub/Sub 메시지를 놓치더라도 L1 TTL 이후엔 다시 읽어오도록 만료 시간도 둠
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "member.snapshot.l1");
+
+        this.redisHit = Counter.builder("member.snapshot.l2").tag("result", "hit").register(meterRegistry);
+        this.redisMiss = Counter.builder("member.snapshot.l2").tag("result", "miss").register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 이메일로 회원 스냅샷 조회 (L1 → L2 → DB)
+     */
+    public Optional<MemberSnapshot> findByEmail(String email) {
+        MemberSnapshot snapshot = local.getIfPresent(email);
+        if (snapshot != null) {
+            return Optional.of(snapshot);
+        }
+
+        L2Entry l2 = readRedis(email);
+        if (l2.snapshot() != null) {
+            redisHit.increment();
+            local.put(email, l2.snapshot());
+            return Optional.of(l2.snapshot());
+        }
+        redisMiss.increment();
+
+        // DB 조회 (없는 회원은 캐시하지 않음 → 가입 직후 바로 보임)
+        Optional<MemberSnapshot> loaded = memberRepository.findByEmail(email).map(MemberSnapshot::from);
+        loaded.ifPresent(s -> {
+            // L1 먼저 → 저장이 거절되면 제거 (저장 성공 후 들어온 무효화 메시지는 L1에서 지움)
+            local.put(email, s);
+            if (!writeRedis(s, l2.version())) {
+                local.invalidate(email);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 회원 정보 변경 시 캐시 무효화 (트랜잭션 커밋 후 실행)
+     * 트랜잭션 밖에서 발행된 이벤트도 바로 처리 (fallbackExecution)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.email());
+    }
+
+    /**
+     * L2 삭제 + 전체 서버에 L1 무효화 메시지 발행
+     */
+    public void evict(String email) {
+        local.invalidate(email);
+        try {
+            redisTemplate.execute(memberCacheEvictScript,
+                    List.of(KEY_PREFIX + email, VERSION_PREFIX + email),
+                    String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, email);
+        } catch (DataAccessException e) {
+            // Redis 장애 시에도 요청은 성공시킴 (다른 서버 L1은 TTL로 정리됨)
+            log.warn("회원 캐시 무효화 실패: {}", email, e);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자기 자신)가 발행한 무효화 메시지 수신 → L1에서 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        local.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 스냅샷 + 버전을 한 번에 조회 (MGET, 왕복 1회)
+     * Redis 장애면 버전 null → DB 값은 L1에만 넣음
+     */
+    private L2Entry readRedis(String email) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + email, VERSION_PREFIX + email));
+            String json = values != null ? values.get(0) : null;
+            String version = values != null && values.get(1) != null ? values.get(1) : NO_VERSION;
+            return new L2Entry(json != null ? objectMapper.readValue(json, MemberSnapshot.class) : null, version);
+        } catch (DataAccessException | JsonProcessingException e) {
+            // L2를 못 읽으면 DB로 진행
+            log.warn("회원 캐시(Redis) 조회 실패: {}", email, e);
+            return new L2Entry(null, null);
+        }
+    }
+
+    /**
+     * 조회 전에 본 버전이 그대로일 때만 L2 저장
+     *
+     * @return false = 조회 도중 무효화됨 (스냅샷이 오래됐을 수 있음)
+     */
+    private boolean writeRedis(MemberSnapshot snapshot, String version) {
+        if (version == null) {
+            return true; // Redis 장애 중 → L1만 (local-ttl 이후 다시 조회)
+        }
+        try {
+            Long stored = redisTemplate.execute(memberCacheWriteScript,
+                    List.of(KEY_PREFIX + snapshot.email(), VERSION_PREFIX + snapshot.email()),
+                    version,
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(redisTtl.toMillis()));
+            return stored != null && stored == 1L;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 캐시(Redis) 저장 실패: {}", snapshot.email(), e);
+            return true;
+        }
+    }
+
+    /**
+     * @param snapshot L2 스냅샷 (없으면 null)
+     * @param version  무효화 버전 (Redis 장애면 null)
+     */
+    private record L2Entry(MemberSnapshot snapshot, String version) {}
+}
@@ -0,0 +1,37 @@
+package com.budongsan.api.domain.member.controller;
+
+import com.budongsan.api.domain.member.dto.MemberBulkResponse;
+import com.budongsan.api.domain.member.service.MemberBulkService;
+import com.budongsan.core.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 관리자 회원 관리 컨트롤러
+ *
+ * /api/admin/** → ADMIN만 접근 가능 (SecurityConfig)
+ */
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 API")
+public class AdminMemberController {
+
+    private final MemberBulkService memberBulkService;
+
+    @Operation(summary = "회원 대량 등록",
+            description = "CSV(UTF-8) 또는 엑셀(.xlsx) 명단, 1행은 헤더 (이메일/비밀번호/이름/역할/초대코드). "
+                    + "역할은 LEADER/MEMBER(팀장/팀원), 초대코드를 입력한 팀원은 해당 팀에 바로 가입됩니다. "
+                    + "검증 실패 행은 건너뛰고 행 번호와 사유를 반환합니다.")
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<MemberBulkResponse>> registerMembers(
+            @RequestPart("file") MultipartFile file) {
+        MemberBulkResponse response = memberBulkService.register(file);
+        return ResponseEntity.ok(ApiResponse.success("회원 등록이 완료되었습니다.", response));
+    }
+}
@@ -4,14 +4,16 @@ import com.budongsan.api.domain.member.dto.LoginRequest;
 import com.budongsan.api.domain.member.dto.SignUpRequest;
 import com.budongsan.api.domain.member.dto.TokenResponse;
 import com.budongsan.api.domain.member.service.AuthService;
+import com.budongsan.api.global.security.MemberAuthentication;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
 import com.budongsan.core.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -56,7 +58,7 @@ public class AuthController {
      * Access Token 재발급
      * POST /api/auth/reissue
      */
-    @Operation(summary = "토큰 재발급", description = "Refresh Token으로 새 Access Token 발급")
+    @Operation(summary = "토큰 재발급", description = "Refresh Token으로 새 Access Token + 새 Refresh Token 발급 (이전 Refresh Token은 폐기)")
     @PostMapping("/reissue")
     public ResponseEntity<ApiResponse<TokenResponse>> reissue(@RequestHeader("Refresh-Token") String refreshToken) {
         TokenResponse tokenResponse = authService.reissue(refreshToken);
@@ -66,12 +68,16 @@ public class AuthController {
     /**
      * 로그아웃
      * POST /api/auth/logout
-     * @AuthenticationPrincipal → Security Context에서 현재 로그인한 사용자 정보 꺼냄
+     * MemberAuthentication → Security Context의 인증 객체 (Access Token jti/만료 시각 포함)
      */
-    @Operation(summary = "로그아웃", description = "Refresh Token 삭제 (재발급 불가)")
+    @Operation(summary = "로그아웃", description = "Refresh Token 삭제 (재발급 불가) + 현재 Access Token 폐기")
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal UserDetails userDetails) {
-        authService.logout(userDetails.getUsername()); // username = email
+    public ResponseEntity<ApiResponse<Void>> logout(@Parameter(hidden = true) MemberAuthentication authentication) {
+        // /api/auth/** 는 permitAll 이라 토큰 없이도 여기까지 올 수 있음
+        if (authentication == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        authService.logout(authentication.getClaims());
         return ResponseEntity.ok(ApiResponse.success("로그아웃 되었습니다."));
     }
 }
@@ -0,0 +1,24 @@
+package com.budongsan.api.domain.member.dto;
+
+import java.util.List;
+
+/**
+ * 회원 대량 등록 결과
+ *
+ * 검증을 통과한 행만 등록하고, 실패한 행은 행 번호 + 이메일 + 사유로 알려줌
+ *
+ * @param totalRows   명단 행 수 (헤더/빈 행 제외)
+ * @param createdRows 등록된 회원 수
+ * @param failedRows  실패 행 수
+ */
+public record MemberBulkResponse(
+        int totalRows,
+        int createdRows,
+        int failedRows,
+        List<RowError> errors
+) {
+    /**
+     * @param row 파일 행 번호 (헤더 = 1행)
+     */
+    public record RowError(int row, String email, String message) {}
+}
@@ -0,0 +1,46 @@
+package com.budongsan.api.domain.member.repository;
+
+import com.budongsan.core.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 회원 대량 저장 (Hibernate JDBC batch insert)
+ *
+ * Member id는 시퀀스(pooled, 50개씩 확보)라 INSERT 전에 id를 알 수 있음
+ * → persist를 모아 flush하면 hibernate.jdbc.batch_size 단위로 묶여 전송
+ *   (reWriteBatchedInserts=true면 multi-row INSERT로 재작성)
+ * → batch마다 clear해서 영속성 컨텍스트에 엔티티가 쌓이지 않게 함
+ *
+ * MemberRepository.save()를 거치지 않아 MemberChangedEvent는 발행되지 않음
+ * (새 회원은 캐시에 없어서 무효화할 대상이 없음)
+ * 트랜잭션 안에서 호출해야 함
+ */
+@Repository
+public class MemberBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public MemberBulkRepository(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void persistAll(List<Member> members) {
+        for (int i = 0; i < members.size(); i++) {
+            entityManager.persist(members.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Optional;
  * 추가로 필요한 쿼리는 메서드 이름으로 자동 생성됨
  * ex) findByEmail → SELECT * FROM member WHERE email = ?
  */
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
     // 이메일로 회원 조회 (로그인 시 사용)
     Optional<Member> findByEmail(String email);
@@ -0,0 +1,22 @@
+package com.budongsan.api.domain.member.repository;
+
+import com.budongsan.api.domain.team.dto.TeamMemberResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 회원 Repository 커스텀 쿼리 (QueryDSL 구현 → MemberRepositoryImpl)
+ */
+public interface MemberRepositoryCustom {
+
+    // 팀원 목록 keyset 조회 (id > cursor, id 오름차순, 최대 limit개)
+    List<TeamMemberResponse> findTeamMembers(Long teamId, Long cursor, int limit);
+
+    // 팀원 전체 스트림 (DB 커서, id 오름차순) - 트랜잭션 안에서 소비 후 close
+    Stream<TeamMemberResponse> streamTeamMembers(Long teamId, int fetchSize);
+
+    // 주어진 이메일 중 이미 가입된 것 (대량 등록 중복 확인, 쿼리 1회)
+    List<String> findExistingEmails(Collection<String> emails);
+}
@@ -0,0 +1,80 @@
+package com.budongsan.api.domain.member.repository;
+
+import com.budongsan.api.domain.team.dto.TeamMemberResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.budongsan.core.domain.member.QMember.member;
+
+/**
+ * 회원 Repository QueryDSL 구현체
+ */
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * select id, name, email from member
+     * where team_id = ? and id > ? order by id limit ?
+     * → idx_member_team_id (team_id, id) 인덱스 범위 스캔, 페이지 위치와 상관없이 일정한 비용
+     */
+    @Override
+    public List<TeamMemberResponse> findTeamMembers(Long teamId, Long cursor, int limit) {
+        return selectTeamMembers(teamId)
+                .where(idAfter(cursor))
+                .orderBy(member.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 같은 쿼리를 페이지 없이 커서로 (fetch size만큼씩 받아옴, DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음)
+     */
+    @Override
+    public Stream<TeamMemberResponse> streamTeamMembers(Long teamId, int fetchSize) {
+        return selectTeamMembers(teamId)
+                .orderBy(member.id.asc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
+
+    /**
+     * select email from member where email in (?, ?, ...)
+     * → email unique 인덱스로 조회, 명단 크기와 상관없이 왕복 1회
+     */
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(member.email)
+                .from(member)
+                .where(member.email.in(emails))
+                .fetch();
+    }
+
+    private JPAQuery<TeamMemberResponse> selectTeamMembers(Long teamId) {
+        return queryFactory
+                .select(Projections.constructor(TeamMemberResponse.class,
+                        member.id,
+                        member.name,
+                        member.email))
+                .from(member)
+                .where(member.team.id.eq(teamId));
+    }
+
+    // 첫 페이지(cursor 없음)면 조건 생략
+    private BooleanExpression idAfter(Long cursor) {
+        return cursor != null ? member.id.gt(cursor) : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.budongsan.api.domain.member.roster;
+
+/**
+ * 회원 명단 열 순서 (첫 행은 헤더, 내용은 보지 않음)
+ *
+ * 이메일 | 비밀번호 | 이름 | 역할 | 초대코드
+ * - 역할: LEADER/MEMBER 또는 팀장/팀원
+ * - 초대코드: 팀원만, 비워두면 팀 미가입 상태로 등록
+ */
+final class MemberRosterColumns {
+
+    static final int EMAIL = 0;
+    static final int PASSWORD = 1;
+    static final int NAME = 2;
+    static final int ROLE = 3;
+    static final int INVITE_CODE = 4;
+
+    static final int COUNT = 5;
+
+    private MemberRosterColumns() {}
+}
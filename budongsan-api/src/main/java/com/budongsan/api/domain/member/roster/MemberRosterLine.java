@@ -0,0 +1,14 @@
+package com.budongsan.api.domain.member.roster;
+
+/**
+ * 명단 파일에서 읽은 한 행 (검증 전)
+ *
+ * @param row   파일 행 번호 (헤더 = 1행)
+ * @param cells MemberRosterColumns 순서의 셀 값 (빈 셀 = null)
+ */
+public record MemberRosterLine(int row, String[] cells) {
+
+    public String email() {
+        return cells[MemberRosterColumns.EMAIL];
+    }
+}
@@ -0,0 +1,74 @@
+package com.budongsan.api.domain.member.roster;
+
+import com.budongsan.core.domain.member.MemberRole;
+
+import java.util.regex.Pattern;
+
+/**
+ * 명단 한 행 → 회원 행 변환 + 검증 (회원가입 SignUpRequest와 같은 규칙)
+ *
+ * 상태 없는 정적 메서드 (PropertyRowParser와 같은 방식)
+ */
+public final class MemberRosterParser {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_LENGTH = 255;
+
+    private MemberRosterParser() {}
+
+    /**
+     * @throws IllegalArgumentException 검증 실패 (메시지 = 사용자에게 보여줄 사유)
+     */
+    public static MemberRosterRow parse(MemberRosterLine line) {
+        String[] cells = line.cells();
+
+        String email = limited(required(cells, MemberRosterColumns.EMAIL, "이메일"), "이메일");
+        if (!EMAIL.matcher(email).matches()) {
+            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
+        }
+
+        String password = required(cells, MemberRosterColumns.PASSWORD, "비밀번호");
+        if (password.length() < MIN_PASSWORD_LENGTH) {
+            throw new IllegalArgumentException("비밀번호는 8자 이상이어야 합니다.");
+        }
+
+        String name = limited(required(cells, MemberRosterColumns.NAME, "이름"), "이름");
+        MemberRole role = parseRole(required(cells, MemberRosterColumns.ROLE, "역할"));
+
+        String inviteCode = cells[MemberRosterColumns.INVITE_CODE];
+        if (inviteCode == null || inviteCode.isEmpty()) {
+            inviteCode = null;
+        } else if (role != MemberRole.MEMBER) {
+            throw new IllegalArgumentException("초대코드는 팀원만 입력할 수 있습니다.");
+        }
+        // 초대코드 형식/존재 확인은 팀 조회 때 (TeamInviteCodeIndex)
+
+        return new MemberRosterRow(line.row(), email, password, name, role, inviteCode);
+    }
+
+    // ADMIN은 명단으로 만들 수 없음 (회원가입과 동일)
+    private static MemberRole parseRole(String value) {
+        return switch (value.toUpperCase()) {
+            case "LEADER", "팀장" -> MemberRole.LEADER;
+            case "MEMBER", "팀원" -> MemberRole.MEMBER;
+            default -> throw new IllegalArgumentException("역할은 팀장(LEADER) 또는 팀원(MEMBER)이어야 합니다.");
+        };
+    }
+
+    private static String required(String[] cells, int col, String name) {
+        String value = cells[col];
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + "을(를) 입력해주세요.");
+        }
+        return value;
+    }
+
+    private static String limited(String value, String name) {
+        String trimmed = value.trim();
+        if (trimmed.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException(name + "은(는) " + MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,203 @@
+package com.budongsan.api.domain.member.roster;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 회원 명단 읽기 (.csv / .xlsx)
+ *
+ * 명단은 많아야 수백~수천 행 → 행 목록으로 모아서 반환 (max-rows 초과 시 읽기 중단 후 거절)
+ * - csv : UTF-8 (BOM 허용), 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 처리
+ * - xlsx: 매물 엑셀과 같은 POI 이벤트 API(SAX), 첫 번째 시트만
+ *
+ * 첫 행은 헤더, 빈 행은 건너뜀, 셀 값은 앞뒤 공백 제거
+ */
+@Component
+public class MemberRosterReader {
+
+    private static final int HEADER_ROW = 1;
+
+    private final int maxRows;
+
+    public MemberRosterReader(@Value("${member.bulk.max-rows:2000}") int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public List<MemberRosterLine> read(MultipartFile file) {
+        String filename = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        try (InputStream input = file.getInputStream()) {
+            if (filename.endsWith(".csv")) {
+                return readCsv(input);
+            }
+            if (filename.endsWith(".xlsx")) {
+                return readXlsx(input);
+            }
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private List<MemberRosterLine> readCsv(InputStream input) throws IOException {
+        LineCollector collector = new LineCollector();
+        Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String[] cells = new String[MemberRosterColumns.COUNT];
+        StringBuilder value = new StringBuilder();
+        int row = 1;
+        int col = 0;
+        boolean quoted = false;
+        boolean first = true;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') { // 엑셀에서 저장한 UTF-8 CSV의 BOM
+                    continue;
+                }
+            }
+            if (quoted) {
+                if (c != '"') {
+                    value.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    value.append('"'); // "" → "
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                setCell(cells, col++, value);
+            } else if (c == '\n') {
+                setCell(cells, col, value);
+                collector.add(row++, cells);
+                cells = new String[MemberRosterColumns.COUNT];
+                col = 0;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+        }
+        if (quoted) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT); // 닫히지 않은 따옴표
+        }
+        if (col > 0 || !value.isEmpty()) { // 마지막 행에 줄바꿈이 없는 경우
+            setCell(cells, col, value);
+            collector.add(row, cells);
+        }
+        return collector.lines;
+    }
+
+    private List<MemberRosterLine> readXlsx(InputStream input) throws IOException {
+        LineCollector collector = new LineCollector();
+        try (OPCPackage pkg = OPCPackage.open(input)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), sharedStrings, new RosterSheetHandler(collector),
+                        new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | IllegalArgumentException e) {
+            // xlsx가 아니거나 깨진 파일
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+        }
+        return collector.lines;
+    }
+
+    private static void setCell(String[] cells, int col, StringBuilder value) {
+        if (col < MemberRosterColumns.COUNT) {
+            cells[col] = value.toString().trim();
+        }
+        value.setLength(0);
+    }
+
+    /**
+     * 헤더/빈 행 제외 + 최대 행 수 확인
+     */
+    private class LineCollector {
+
+        private final List<MemberRosterLine> lines = new ArrayList<>();
+
+        void add(int row, String[] cells) {
+            if (row == HEADER_ROW || Arrays.stream(cells).allMatch(cell -> cell == null || cell.isEmpty())) {
+                return;
+            }
+            if (lines.size() >= maxRows) {
+                throw new BusinessException(ErrorCode.ROSTER_TOO_LARGE);
+            }
+            lines.add(new MemberRosterLine(row, cells));
+        }
+    }
+
+    /**
+     * 시트 SAX 이벤트 → 행 단위 셀 배열 (PropertySheetHandler와 같은 방식)
+     */
+    private static class RosterSheetHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final LineCollector collector;
+        private String[] cells;
+
+        RosterSheetHandler(LineCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new String[MemberRosterColumns.COUNT];
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = new CellReference(cellReference).getCol();
+            if (col < MemberRosterColumns.COUNT) {
+                cells[col] = formattedValue != null ? formattedValue.trim() : null;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            collector.add(rowNum + 1, cells); // 엑셀 화면 기준 행 번호
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.budongsan.api.domain.member.roster;
+
+import com.budongsan.core.domain.member.MemberRole;
+
+/**
+ * 검증을 통과한 명단 한 행
+ *
+ * @param row        파일 행 번호 (헤더 = 1행)
+ * @param inviteCode 가입할 팀 초대코드 (없으면 null)
+ */
+public record MemberRosterRow(
+        int row,
+        String email,
+        String rawPassword,
+        String name,
+        MemberRole role,
+        String inviteCode
+) {}
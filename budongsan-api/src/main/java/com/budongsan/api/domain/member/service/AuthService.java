@@ -1,47 +1,100 @@
 package com.budongsan.api.domain.member.service;
 
+import com.budongsan.api.domain.member.cache.MemberSnapshot;
+import com.budongsan.api.domain.member.cache.MemberSnapshotCache;
 import com.budongsan.api.domain.member.dto.LoginRequest;
 import com.budongsan.api.domain.member.dto.SignUpRequest;
 import com.budongsan.api.domain.member.dto.TokenResponse;
 import com.budongsan.api.domain.member.repository.MemberRepository;
 import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.PasswordHasher;
+import com.budongsan.api.global.security.TokenDigest;
+import com.budongsan.api.global.security.TokenRevocationService;
+import com.budongsan.api.global.security.VerifiedClaims;
 import com.budongsan.core.domain.member.Member;
 import com.budongsan.core.exception.BusinessException;
 import com.budongsan.core.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 인증 서비스 (회원가입, 로그인, 토큰 재발급, 로그아웃)
  *
  * @Service     → Spring이 이 클래스를 서비스 빈으로 관리
- * @Transactional → DB 작업 중 오류 나면 자동 롤백
- * @RequiredArgsConstructor → final 필드 생성자 자동 생성 (의존성 주입)
+ *
+ * 메트릭: auth.redis{op=rt.save/rt.rotate/rt.delete} → Refresh Token 관련 Redis 호출 시간
+ *
+ * Redis(토큰 저장소) 장애 시 TOKEN_STORE_UNAVAILABLE(503) → 클라이언트가 재시도
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;       // BCrypt 암호화
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final PasswordHasher passwordHasher;         // BCrypt 암호화 (전용 스레드풀)
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> rotateRefreshTokenScript;
+    private final TokenRevocationService tokenRevocationService;
 
-    // Redis Key 접두사 (RT = Refresh Token)
+    private final Timer rtSaveTimer;
+    private final Timer rtRotateTimer;
+    private final Timer rtDeleteTimer;
+
+    // Redis Key 접두사 (RT = Refresh Token, RTU = 이미 사용된 Refresh Token)
+    // 토큰 원문 대신 SHA-256 다이제스트만 저장
     private static final String RT_PREFIX = "RT:";
+    private static final String RTU_PREFIX = "RTU:";
+
+    // 회전 스크립트 결과
+    private static final long ROTATED = 1L;
+    private static final long REUSED = -1L;
+
+    public AuthService(MemberRepository memberRepository,
+                       MemberSnapshotCache memberSnapshotCache,
+                       PasswordHasher passwordHasher,
+                       JwtTokenProvider jwtTokenProvider,
+                       RedisTemplate<String, String> redisTemplate,
+                       RedisScript<Long> rotateRefreshTokenScript,
+                       TokenRevocationService tokenRevocationService,
+                       MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.passwordHasher = passwordHasher;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+        this.rotateRefreshTokenScript = rotateRefreshTokenScript;
+        this.tokenRevocationService = tokenRevocationService;
+        this.rtSaveTimer = redisTimer(meterRegistry, "rt.save");
+        this.rtRotateTimer = redisTimer(meterRegistry, "rt.rotate");
+        this.rtDeleteTimer = redisTimer(meterRegistry, "rt.delete");
+    }
+
+    private static Timer redisTimer(MeterRegistry meterRegistry, String op) {
+        return Timer.builder("auth.redis")
+                .tag("op", op)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     /**
      * 회원가입
      * 1. 이메일 중복 체크
      * 2. 비밀번호 BCrypt 암호화
-     * 3. DB 저장
+     * 3. DB 저장 (저장 시 MemberChangedEvent 발행 → 회원 캐시 무효화)
+     *
+     * 메서드 전체를 트랜잭션으로 묶지 않음 → BCrypt 해싱 동안 DB 커넥션을 잡고 있지 않도록
+     * (중복 이메일 동시 가입은 email unique 제약으로 막힘)
      */
-    @Transactional
     public void signUp(SignUpRequest request) {
         // 이메일 중복 체크
         if (memberRepository.existsByEmail(request.email())) {
@@ -51,7 +104,7 @@ public class AuthService {
         // 비밀번호 암호화 후 회원 저장
         Member member = Member.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password())) // BCrypt 암호화
+                .password(passwordHasher.encode(request.password())) // BCrypt 암호화
                 .name(request.name())
                 .role(request.role())
                 .build();
@@ -65,67 +118,106 @@ public class AuthService {
      * 2. 비밀번호 검증
      * 3. Access Token + Refresh Token 발급
      * 4. Refresh Token Redis에 저장
+     *
+     * 비밀번호 검증(BCrypt)은 트랜잭션 밖, 전용 스레드풀에서 실행
      */
-    @Transactional(readOnly = true)
     public TokenResponse login(LoginRequest request) {
         // 회원 조회
         Member member = memberRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 비밀번호 검증 (입력한 비번 vs 암호화된 비번 비교)
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+        if (!passwordHasher.matches(request.password(), member.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
         // 토큰 생성
-        String accessToken = jwtTokenProvider.generateAccessToken(member.getEmail(), member.getRole());
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                member.getId(), member.getEmail(), member.getRole(), member.getTeamId());
         String refreshToken = jwtTokenProvider.generateRefreshToken(member.getEmail());
 
-        // Refresh Token Redis에 저장 (Key: "RT:이메일", Value: refreshToken, 만료: 7일)
-        redisTemplate.opsForValue().set(
-                RT_PREFIX + member.getEmail(),
-                refreshToken,
-                jwtTokenProvider.getRefreshTokenExpiration(),
-                TimeUnit.MILLISECONDS
-        );
+        // Refresh Token Redis에 저장 (Key: "RT:이메일", Value: 토큰 다이제스트, 만료: 7일)
+        String refreshTokenDigest = TokenDigest.sha256(refreshToken);
+        try {
+            rtSaveTimer.record(() -> redisTemplate.opsForValue().set(
+                    RT_PREFIX + member.getEmail(),
+                    refreshTokenDigest,
+                    jwtTokenProvider.getRefreshTokenExpiration(),
+                    TimeUnit.MILLISECONDS
+            ));
+        } catch (DataAccessException e) {
+            throw tokenStoreUnavailable("Refresh Token 저장", e);
+        }
 
         return new TokenResponse(accessToken, refreshToken);
     }
 
     /**
-     * Access Token 재발급
-     * 1. Refresh Token 유효성 검증
-     * 2. Redis에 저장된 Refresh Token과 비교
-     * 3. 새 Access Token 발급
+     * Access Token 재발급 + Refresh Token 회전
+     * 1. Refresh Token 서명/만료 검증
+     * 2. Lua 스크립트로 한 번에: 저장된 토큰과 비교 → 새 Refresh Token 저장 → 이전 토큰은 "사용됨" 처리
+     * 3. 이미 사용된 토큰이 다시 오면 (탈취 의심) 토큰 체인 전체 폐기 → 재로그인 필요
+     * 4. 회원 정보는 캐시에서 조회 → 새 Access Token 발급
+     *
+     * 같은 Refresh Token으로 동시에 재발급하면 하나만 성공하고 나머지는 재사용으로 처리됨
      */
     public TokenResponse reissue(String refreshToken) {
-        // Refresh Token 검증
-        jwtTokenProvider.validateToken(refreshToken);
-
-        String email = jwtTokenProvider.getEmail(refreshToken);
-
-        // Redis에서 Refresh Token 조회
-        String savedRefreshToken = redisTemplate.opsForValue().get(RT_PREFIX + email);
+        // Refresh Token 검증 (파싱 1회)
+        String email = jwtTokenProvider.verify(refreshToken).email();
+
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(email);
+
+        List<String> keys = List.of(RT_PREFIX + email, RTU_PREFIX + email);
+        String currentDigest = TokenDigest.sha256(refreshToken);
+        String newDigest = TokenDigest.sha256(newRefreshToken);
+        Long result;
+        try {
+            result = rtRotateTimer.record(() -> redisTemplate.execute(
+                    rotateRefreshTokenScript,
+                    keys,
+                    currentDigest,
+                    newDigest,
+                    String.valueOf(jwtTokenProvider.getRefreshTokenExpiration())
+            ));
+        } catch (DataAccessException e) {
+            throw tokenStoreUnavailable("Refresh Token 회전", e);
+        }
 
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        if (result == null || result != ROTATED) {
+            throw new BusinessException(result != null && result == REUSED
+                    ? ErrorCode.REFRESH_TOKEN_REUSED
+                    : ErrorCode.INVALID_TOKEN);
         }
 
-        // 회원 정보 조회 (권한 정보 필요)
-        Member member = memberRepository.findByEmail(email)
+        // 회원 정보 조회 (id/권한/팀 정보 필요) - 캐시 우선
+        MemberSnapshot member = memberSnapshotCache.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 새 Access Token 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(member.getEmail(), member.getRole());
+        String newAccessToken = jwtTokenProvider.generateAccessToken(
+                member.id(), member.email(), member.role(), member.teamId());
 
-        return new TokenResponse(newAccessToken, refreshToken);
+        return new TokenResponse(newAccessToken, newRefreshToken);
     }
 
     /**
      * 로그아웃
-     * Redis에서 Refresh Token 삭제 → 재발급 불가 상태로 만듦
+     * 1. 현재 Access Token 폐기 → 만료 전이라도 즉시 사용 불가 (Redis 장애여도 이 서버 필터에는 남음)
+     * 2. Redis에서 Refresh Token 삭제 → 재발급 불가 상태로 만듦
      */
-    public void logout(String email) {
-        redisTemplate.delete(RT_PREFIX + email);
+    public void logout(VerifiedClaims accessToken) {
+        tokenRevocationService.revoke(accessToken);
+
+        List<String> keys = List.of(RT_PREFIX + accessToken.email(), RTU_PREFIX + accessToken.email());
+        try {
+            rtDeleteTimer.record(() -> redisTemplate.delete(keys));
+        } catch (DataAccessException e) {
+            throw tokenStoreUnavailable("Refresh Token 삭제", e);
+        }
+    }
+
+    private static BusinessException tokenStoreUnavailable(String operation, DataAccessException e) {
+        log.warn("{} 실패 (Redis 장애)", operation, e);
+        return new BusinessException(ErrorCode.TOKEN_STORE_UNAVAILABLE);
     }
 }
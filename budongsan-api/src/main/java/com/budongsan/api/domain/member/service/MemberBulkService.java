@@ -0,0 +1,165 @@
+package com.budongsan.api.domain.member.service;
+
+import com.budongsan.api.domain.member.dto.MemberBulkResponse;
+import com.budongsan.api.domain.member.dto.MemberBulkResponse.RowError;
+import com.budongsan.api.domain.member.repository.MemberBulkRepository;
+import com.budongsan.api.domain.member.repository.MemberRepository;
+import com.budongsan.api.domain.member.roster.MemberRosterLine;
+import com.budongsan.api.domain.member.roster.MemberRosterParser;
+import com.budongsan.api.domain.member.roster.MemberRosterReader;
+import com.budongsan.api.domain.member.roster.MemberRosterRow;
+import com.budongsan.api.domain.team.invite.TeamInviteCodeIndex;
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.global.security.PasswordHasher;
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.team.Team;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회원 대량 등록 (관리자, CSV/엑셀 명단)
+ *
+ * 회원가입 API를 명단 행 수만큼 호출하는 대신 한 번에 처리:
+ * 1. 명단 읽기 + 행별 검증 (실패 행은 사유와 함께 제외)
+ * 2. 파일 안 중복 이메일 + 이미 가입된 이메일 확인 (IN 쿼리 1회)
+ * 3. 초대코드 → 팀 id (서로 다른 코드마다 1회, TeamInviteCodeIndex)
+ * 4. 비밀번호 BCrypt 병렬 해싱 (PasswordHasher 풀, 로그인용 여유는 남겨둠) - 트랜잭션 밖
+ * 5. 시퀀스 id + JDBC batch insert, 팀 가입까지 한 트랜잭션으로
+ *
+ * 확인 후 저장 전에 같은 이메일이 가입되면 unique 제약으로 전체 롤백 → DUPLICATE_EMAIL
+ *
+ * 메트릭: member.bulk{phase=hash|insert}
+ */
+@Slf4j
+@Service
+public class MemberBulkService {
+
+    private final MemberRosterReader rosterReader;
+    private final MemberRepository memberRepository;
+    private final MemberBulkRepository memberBulkRepository;
+    private final TeamRepository teamRepository;
+    private final TeamInviteCodeIndex teamInviteCodeIndex;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer hashTimer;
+    private final Timer insertTimer;
+
+    public MemberBulkService(MemberRosterReader rosterReader,
+                             MemberRepository memberRepository,
+                             MemberBulkRepository memberBulkRepository,
+                             TeamRepository teamRepository,
+                             TeamInviteCodeIndex teamInviteCodeIndex,
+                             PasswordHasher passwordHasher,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.rosterReader = rosterReader;
+        this.memberRepository = memberRepository;
+        this.memberBulkRepository = memberBulkRepository;
+        this.teamRepository = teamRepository;
+        this.teamInviteCodeIndex = teamInviteCodeIndex;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = transactionTemplate;
+        this.hashTimer = phaseTimer(meterRegistry, "hash");
+        this.insertTimer = phaseTimer(meterRegistry, "insert");
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("member.bulk")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public MemberBulkResponse register(MultipartFile file) {
+        List<MemberRosterLine> lines = rosterReader.read(file);
+        List<RowError> errors = new ArrayList<>();
+
+        // 1. 행별 검증 + 파일 안 중복 (먼저 나온 행만 등록)
+        Map<String, MemberRosterRow> rowsByEmail = new LinkedHashMap<>();
+        for (MemberRosterLine line : lines) {
+            try {
+                MemberRosterRow row = MemberRosterParser.parse(line);
+                if (rowsByEmail.putIfAbsent(row.email(), row) != null) {
+                    errors.add(new RowError(row.row(), row.email(), "명단에 같은 이메일이 있습니다."));
+                }
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(line.row(), line.email(), e.getMessage()));
+            }
+        }
+
+        // 2. 이미 가입된 이메일 (쿼리 1회)
+        for (String email : memberRepository.findExistingEmails(rowsByEmail.keySet())) {
+            MemberRosterRow row = rowsByEmail.remove(email);
+            errors.add(new RowError(row.row(), email, ErrorCode.DUPLICATE_EMAIL.getMessage()));
+        }
+
+        // 3. 초대코드 → 팀 id (없는 코드면 해당 행 제외)
+        Map<String, Optional<Long>> teamIds = new HashMap<>();
+        List<MemberRosterRow> rows = new ArrayList<>(rowsByEmail.size());
+        for (MemberRosterRow row : rowsByEmail.values()) {
+            if (row.inviteCode() != null
+                    && teamIds.computeIfAbsent(row.inviteCode(), teamInviteCodeIndex::resolve).isEmpty()) {
+                errors.add(new RowError(row.row(), row.email(), ErrorCode.INVALID_INVITE_CODE.getMessage()));
+                continue;
+            }
+            rows.add(row);
+        }
+
+        // 4. 병렬 해싱 (트랜잭션 밖 → 해싱 동안 DB 커넥션을 잡지 않음)
+        List<String> encoded = hashTimer.record(() ->
+                passwordHasher.encodeAll(rows.stream().map(MemberRosterRow::rawPassword).toList()));
+
+        // 5. batch insert + 팀 가입
+        if (!rows.isEmpty()) {
+            try {
+                insertTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                        memberBulkRepository.persistAll(toMembers(rows, encoded, teamIds))));
+            } catch (DataIntegrityViolationException e) {
+                // 확인 이후 같은 이메일로 가입됨
+                throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::row));
+        log.info("회원 대량 등록: 전체 {}행, 등록 {}명, 실패 {}행", lines.size(), rows.size(), errors.size());
+        return new MemberBulkResponse(lines.size(), rows.size(), errors.size(), errors);
+    }
+
+    // 트랜잭션 안에서 호출 (팀은 id만 가진 프록시, 조회 쿼리 없음)
+    private List<Member> toMembers(List<MemberRosterRow> rows, List<String> encoded,
+                                   Map<String, Optional<Long>> teamIds) {
+        Map<Long, Team> teams = new HashMap<>();
+        List<Member> members = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MemberRosterRow row = rows.get(i);
+            Member member = Member.builder()
+                    .email(row.email())
+                    .password(encoded.get(i))
+                    .name(row.name())
+                    .role(row.role())
+                    .build();
+            if (row.inviteCode() != null) {
+                Long teamId = teamIds.get(row.inviteCode()).orElseThrow();
+                member.joinTeam(teams.computeIfAbsent(teamId, teamRepository::getReferenceById));
+            }
+            members.add(member);
+        }
+        return members;
+    }
+}
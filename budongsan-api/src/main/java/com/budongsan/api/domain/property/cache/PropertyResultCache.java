@@ -0,0 +1,147 @@
+package com.budongsan.api.domain.property.cache;
+
+import com.budongsan.api.global.security.TokenDigest;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 매물 검색 결과 Redis 캐시 (팀 단위 버전 키로 무효화)
+ *
+ * 키 구성:
+ * "PROPVER:{팀 id}"                                  → 팀 버전 (INCR 카운터)
+ * "PROPCACHE:{팀 id}:{버전}:{엔드포인트}:{조건 해시}" → 응답 JSON (TTL)
+ *
+ * 무효화:
+ * 팀 매물이 바뀌면(커밋 후) 팀 버전만 INCR → 이후 요청은 새 버전 키를 보므로 이전 결과는 자연히 안 쓰임
+ * → KEYS/SCAN으로 팀 키를 찾아 지울 필요 없음 (O(1)), 이전 버전 키는 TTL로 사라짐
+ *
+ * Redis 장애 시에는 캐시 없이 바로 조회
+ *
+ * DB 조회 결과만 캐시 (버전이 올라간 시점에 DB는 이미 커밋됨)
+ * 서버 메모리 인덱스 결과(텍스트 검색 등)는 서버마다 반영 시점이 달라 넣지 않음
+ *
+ * 메트릭: property.cache{endpoint, result=hit|miss}
+ */
+@Slf4j
+@Component
+public class PropertyResultCache {
+
+    private static final String VERSION_PREFIX = "PROPVER:";
+    private static final String KEY_PREFIX = "PROPCACHE:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntryBytes;
+
+    // 엔드포인트별 {hit, miss} 카운터 (엔드포인트 수가 고정이라 한 번만 등록)
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public PropertyResultCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.enabled:true}") boolean enabled,
+            @Value("${property.cache.ttl:10m}") Duration ttl,
+            @Value("${property.cache.max-entry-bytes:262144}") int maxEntryBytes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader 실행 후 저장
+     *
+     * @param endpoint 엔드포인트 이름 (키 + 메트릭 태그)
+     * @param params   검색 조건 (JSON으로 직렬화해 해시 → 키)
+     * @param type     응답 타입 (제네릭 포함)
+     */
+    public <T> T getOrLoad(String endpoint, Long teamId, Object params, JavaType type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Counter[] hitMiss = counters.computeIfAbsent(endpoint, this::registerCounters);
+
+        String key;
+        try {
+            key = KEY_PREFIX + teamId + ":" + currentVersion(teamId) + ":" + endpoint + ":"
+                    + TokenDigest.sha256(objectMapper.writeValueAsString(params));
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hitMiss[0].increment();
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("매물 검색 캐시 조회 실패, DB 조회로 진행: {}", endpoint, e);
+            return loader.get();
+        }
+
+        hitMiss[1].increment();
+        T result = loader.get();
+        write(key, result);
+        return result;
+    }
+
+    /**
+     * 팀 매물 변경 (커밋 후) → 팀 버전 증가
+     * 변경을 일으킨 서버에서 한 번만 실행 (버전은 Redis에 있어 모든 서버가 공유)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(VERSION_PREFIX + event.teamId());
+        } catch (DataAccessException e) {
+            // 이전 버전 결과는 TTL이 지나면 사라짐
+            log.warn("매물 검색 캐시 무효화 실패: 팀 {}", event.teamId(), e);
+        }
+    }
+
+    private String currentVersion(Long teamId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + teamId);
+        return version != null ? version : "0";
+    }
+
+    private void write(String key, Object result) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(result);
+            if (json.length > maxEntryBytes) {
+                return; // 큰 결과는 캐시하지 않음 (Redis 메모리 보호)
+            }
+            redisTemplate.opsForValue().set(key, new String(json, StandardCharsets.UTF_8), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("매물 검색 캐시 저장 실패: {}", key, e);
+        }
+    }
+
+    private Counter[] registerCounters(String endpoint) {
+        return new Counter[]{
+                Counter.builder("property.cache").tag("endpoint", endpoint).tag("result", "hit").register(meterRegistry),
+                Counter.builder("property.cache").tag("endpoint", endpoint).tag("result", "miss").register(meterRegistry)
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.budongsan.api.domain.property.controller;
+
+import com.budongsan.api.domain.property.dto.PropertyCreateRequest;
+import com.budongsan.api.domain.property.dto.PropertyImportJobResponse;
+import com.budongsan.api.domain.property.dto.PropertyMapResponse;
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.dto.PropertySearchCondition;
+import com.budongsan.api.domain.property.dto.PropertyUpdateRequest;
+import com.budongsan.api.domain.property.service.PropertyExportService;
+import com.budongsan.api.domain.property.map.BoundingBox;
+import com.budongsan.api.domain.property.service.PropertyImportService;
+import com.budongsan.api.domain.property.service.PropertyMapService;
+import com.budongsan.api.domain.property.service.PropertyService;
+import com.budongsan.api.domain.property.service.PropertyTextSearchService;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.domain.property.PropertyStatus;
+import com.budongsan.core.response.ApiResponse;
+import com.budongsan.core.response.CursorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/properties")
+@RequiredArgsConstructor
+@Tag(name = "Property", description = "매물 관리 API")
+public class PropertyController {
+
+    private final PropertyService propertyService;
+    private final PropertyImportService propertyImportService;
+    private final PropertyExportService propertyExportService;
+    private final PropertyMapService propertyMapService;
+    private final PropertyTextSearchService propertyTextSearchService;
+
+    private static final String XLSX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Operation(summary = "매물 등록", description = "팀원은 소속 팀에, 팀장은 teamId로 지정한 본인 팀에 등록합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<PropertyResponse>> createProperty(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @Valid @RequestBody PropertyCreateRequest request) {
+        PropertyResponse response = propertyService.createProperty(loginMember, request);
+        return ResponseEntity.ok(ApiResponse.success("매물이 등록되었습니다.", response));
+    }
+
+    @Operation(summary = "매물 검색",
+            description = "거래 유형/가격/면적/지역/상태 필터 (모두 선택). 최신순 커서 페이지 (응답의 next를 다음 요청의 cursor로 전달)")
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<PropertyResponse>>> searchProperties(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @ModelAttribute PropertySearchCondition condition,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<PropertyResponse> response =
+                propertyService.searchProperties(loginMember, teamId, condition, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "매물 텍스트 검색",
+            description = "제목/주소/메모에서 검색어(띄어쓰기로 여러 개, ex: 역삼 래미안 84)를 찾아 관련도 순으로 반환합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<PropertyResponse>>> searchText(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int size) {
+        List<PropertyResponse> response = propertyTextSearchService.search(loginMember, teamId, query, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "지도 매물 조회",
+            description = "화면 영역(남서~북동)과 줌 레벨을 받아 축소 시 클러스터, 확대 시 마커를 반환합니다.")
+    @GetMapping("/map")
+    public ResponseEntity<ApiResponse<PropertyMapResponse>> getMapView(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam double south,
+            @RequestParam double west,
+            @RequestParam double north,
+            @RequestParam double east,
+            @RequestParam int zoom) {
+        PropertyMapResponse response = propertyMapService.getMapView(
+                loginMember, teamId, new BoundingBox(south, west, north, east), zoom);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "매물 조회")
+    @GetMapping("/{propertyId}")
+    public ResponseEntity<ApiResponse<PropertyResponse>> getProperty(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId) {
+        PropertyResponse response = propertyService.getProperty(loginMember, propertyId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "매물 수정")
+    @PutMapping("/{propertyId}")
+    public ResponseEntity<ApiResponse<PropertyResponse>> updateProperty(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @Valid @RequestBody PropertyUpdateRequest request) {
+        PropertyResponse response = propertyService.updateProperty(loginMember, propertyId, request);
+        return ResponseEntity.ok(ApiResponse.success("매물이 수정되었습니다.", response));
+    }
+
+    @Operation(summary = "매물 상태 변경", description = "AVAILABLE(거래 가능) / RESERVED(계약 중) / CONTRACTED(거래 완료)")
+    @PatchMapping("/{propertyId}/status")
+    public ResponseEntity<ApiResponse<PropertyResponse>> changeStatus(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @RequestParam PropertyStatus status) {
+        PropertyResponse response = propertyService.changeStatus(loginMember, propertyId, status);
+        return ResponseEntity.ok(ApiResponse.success("매물 상태가 변경되었습니다.", response));
+    }
+
+    @Operation(summary = "매물 엑셀 가져오기",
+            description = "첫 번째 시트, 1행은 헤더 (제목/거래유형/가격/월세/면적/지역/주소/메모/위도/경도). "
+                    + "작업 id를 바로 반환하고 백그라운드에서 가져옵니다. 검증 실패 행은 건너뛰고 행 번호와 사유를 기록합니다.")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<PropertyImportJobResponse>> importExcel(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @RequestPart("file") MultipartFile file) {
+        PropertyImportJobResponse response = propertyImportService.submit(loginMember, teamId, file);
+        return ResponseEntity.accepted().body(ApiResponse.success("매물 가져오기 작업이 등록되었습니다.", response));
+    }
+
+    @Operation(summary = "매물 가져오기 진행 상황", description = "처리/저장/실패 행 수와 실패 행 목록을 반환합니다.")
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<PropertyImportJobResponse>> getImportJob(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long jobId) {
+        PropertyImportJobResponse response = propertyImportService.getJob(loginMember, jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "매물 가져오기 진행 상황 스트림",
+            description = "진행 상황이 바뀔 때마다 progress 이벤트(SSE)를 보내고, 작업이 끝나면 스트림을 닫습니다.")
+    @GetMapping(value = "/import-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamImportJob(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long jobId) {
+        return propertyImportService.stream(loginMember, jobId);
+    }
+
+    @Operation(summary = "매물 엑셀 내보내기",
+            description = "검색과 같은 필터를 적용해 팀 매물 전체를 .xlsx로 내려받습니다. (앞 10개 컬럼은 가져오기 형식과 동일)")
+    @GetMapping("/export")
+    public void exportExcel(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @ModelAttribute PropertySearchCondition condition,
+            HttpServletResponse response) throws IOException {
+        // 권한 확인은 응답 헤더를 쓰기 전에 (실패 시 일반 JSON 에러 응답)
+        Long resolvedTeamId = propertyExportService.resolveTeamId(loginMember, teamId);
+
+        String filename = "매물_" + resolvedTeamId + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".xlsx";
+        response.setContentType(XLSX_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        // Content-Length 없이 chunked 전송 → 첫 행부터 바로 다운로드 시작
+        propertyExportService.exportExcel(resolvedTeamId, condition, response.getOutputStream());
+    }
+
+    @Operation(summary = "매물 전체 조회",
+            description = "검색과 같은 필터를 적용해 팀 매물 전체를 페이지 없이 스트리밍합니다. (응답 형식은 다른 API와 동일)")
+    @GetMapping("/all")
+    public void streamProperties(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @RequestParam(required = false) Long teamId,
+            @ModelAttribute PropertySearchCondition condition,
+            HttpServletResponse response) throws IOException {
+        // 권한 확인은 응답을 쓰기 전에 (실패 시 일반 JSON 에러 응답)
+        Long resolvedTeamId = propertyExportService.resolveTeamId(loginMember, teamId);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        propertyExportService.exportJson(resolvedTeamId, condition, response.getOutputStream());
+    }
+}
@@ -0,0 +1,87 @@
+package com.budongsan.api.domain.property.controller;
+
+import com.budongsan.api.domain.property.dto.PropertyPhotoResponse;
+import com.budongsan.api.domain.property.photo.PropertyPhotoResponder;
+import com.budongsan.api.domain.property.service.PropertyPhotoService;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/properties/{propertyId}/photos")
+@RequiredArgsConstructor
+@Tag(name = "Property Photo", description = "매물 사진 API")
+public class PropertyPhotoController {
+
+    private final PropertyPhotoService propertyPhotoService;
+    private final PropertyPhotoResponder propertyPhotoResponder;
+
+    @Operation(summary = "매물 사진 등록", description = "jpg/png/webp, 여러 장 가능. 썸네일은 등록 후 백그라운드에서 생성됩니다.")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<List<PropertyPhotoResponse>>> uploadPhotos(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @RequestPart("files") List<MultipartFile> files) {
+        List<PropertyPhotoResponse> response = propertyPhotoService.upload(loginMember, propertyId, files);
+        return ResponseEntity.ok(ApiResponse.success("사진이 등록되었습니다.", response));
+    }
+
+    @Operation(summary = "매물 사진 목록")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PropertyPhotoResponse>>> getPhotos(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId) {
+        List<PropertyPhotoResponse> response = propertyPhotoService.getPhotos(loginMember, propertyId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "매물 사진 원본", description = "Range 요청(부분 다운로드)을 지원하며 장기 캐시 헤더가 붙습니다.")
+    @GetMapping("/{photoId}")
+    public void getPhoto(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @PathVariable Long photoId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        writePhoto(propertyPhotoService.getPhotoFile(loginMember, propertyId, photoId, false), request, response);
+    }
+
+    @Operation(summary = "매물 사진 썸네일", description = "썸네일이 아직 생성되지 않았으면 원본을 반환합니다.")
+    @GetMapping("/{photoId}/thumbnail")
+    public void getThumbnail(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @PathVariable Long photoId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        writePhoto(propertyPhotoService.getPhotoFile(loginMember, propertyId, photoId, true), request, response);
+    }
+
+    @Operation(summary = "매물 사진 삭제")
+    @DeleteMapping("/{photoId}")
+    public ResponseEntity<ApiResponse<Void>> deletePhoto(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long propertyId,
+            @PathVariable Long photoId) {
+        propertyPhotoService.delete(loginMember, propertyId, photoId);
+        return ResponseEntity.ok(ApiResponse.success("사진이 삭제되었습니다."));
+    }
+
+    private void writePhoto(PropertyPhotoService.PhotoFile photoFile,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        propertyPhotoResponder.write(request, response,
+                photoFile.path(), photoFile.contentType(), photoFile.etag(), photoFile.immutable());
+    }
+}
@@ -0,0 +1,54 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.DealType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 매물 등록 요청 DTO
+ *
+ * teamId: 팀장/관리자는 등록할 팀을 지정 (팀원은 생략 → 소속 팀으로 등록)
+ * 금액 단위: 만원
+ */
+public record PropertyCreateRequest(
+
+        Long teamId,
+
+        @NotBlank(message = "매물 제목을 입력해주세요.")
+        String title,
+
+        @NotNull(message = "거래 유형을 선택해주세요.")
+        DealType dealType,
+
+        @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
+        long price,
+
+        @PositiveOrZero(message = "월세는 0 이상이어야 합니다.")
+        Long monthlyRent,  // 월세 매물만 (나머지는 무시)
+
+        @Positive(message = "면적은 0보다 커야 합니다.")
+        double area,
+
+        @NotBlank(message = "지역(구/군)을 입력해주세요.")
+        String district,
+
+        @NotBlank(message = "주소를 입력해주세요.")
+        String address,
+
+        @Size(max = 1000, message = "메모는 1000자 이하여야 합니다.")
+        String memo,
+
+        // 좌표 (선택, 위도/경도는 함께 입력)
+        @DecimalMin(value = "-90", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        @DecimalMax(value = "90", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        Double latitude,
+
+        @DecimalMin(value = "-180", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        @DecimalMax(value = "180", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        Double longitude
+) {}
@@ -0,0 +1,36 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.PropertyImportJobStatus;
+
+import java.util.List;
+
+/**
+ * 매물 엑셀 가져오기 작업 진행 상황
+ *
+ * 검증을 통과한 행만 저장하고, 실패한 행은 행 번호 + 사유로 알려줌
+ * 실패 목록은 최대 개수까지만 담음 (errorsTruncated = true면 더 있음)
+ *
+ * @param processedRows 처리한 데이터 행 수 (헤더/빈 행 제외, 커밋된 chunk 기준)
+ * @param importedRows  저장된 행 수
+ * @param failedRows    검증 실패 행 수
+ * @param message       실패 사유 (FAILED일 때만)
+ */
+public record PropertyImportJobResponse(
+        Long jobId,
+        PropertyImportJobStatus status,
+        int processedRows,
+        int importedRows,
+        int failedRows,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        String message
+) {
+    /**
+     * @param row 엑셀 행 번호 (헤더 = 1행)
+     */
+    public record RowError(int row, String message) {}
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+}
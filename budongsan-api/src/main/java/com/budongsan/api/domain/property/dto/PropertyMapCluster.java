@@ -0,0 +1,14 @@
+package com.budongsan.api.domain.property.dto;
+
+/**
+ * 지도 클러스터 (축소했을 때 가까운 매물을 묶어 개수로 표시)
+ *
+ * @param latitude  묶인 매물들의 중심 위도
+ * @param longitude 묶인 매물들의 중심 경도
+ * @param count     매물 수
+ */
+public record PropertyMapCluster(
+        double latitude,
+        double longitude,
+        int count
+) {}
@@ -0,0 +1,17 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.PropertyStatus;
+
+/**
+ * 지도 마커 (확대했을 때 매물 하나씩 표시)
+ * 지도 인덱스에 그대로 보관되므로 표시에 필요한 최소한의 값만 담음
+ */
+public record PropertyMapMarker(
+        Long id,
+        double latitude,
+        double longitude,
+        DealType dealType,
+        PropertyStatus status,
+        long price
+) {}
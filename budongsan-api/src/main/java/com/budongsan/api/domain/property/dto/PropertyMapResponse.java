@@ -0,0 +1,20 @@
+package com.budongsan.api.domain.property.dto;
+
+import java.util.List;
+
+/**
+ * 지도 화면 조회 응답
+ * 줌 레벨에 따라 clusters 또는 markers 중 하나만 채워짐
+ */
+public record PropertyMapResponse(
+        List<PropertyMapCluster> clusters,
+        List<PropertyMapMarker> markers
+) {
+    public static PropertyMapResponse ofClusters(List<PropertyMapCluster> clusters) {
+        return new PropertyMapResponse(clusters, List.of());
+    }
+
+    public static PropertyMapResponse ofMarkers(List<PropertyMapMarker> markers) {
+        return new PropertyMapResponse(List.of(), markers);
+    }
+}
@@ -0,0 +1,34 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.PropertyPhoto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 사진 응답
+ *
+ * 원본: GET /api/properties/{propertyId}/photos/{id}
+ * 썸네일: GET /api/properties/{propertyId}/photos/{id}/thumbnail (생성 전이면 원본)
+ *
+ * @param size           바이트
+ * @param thumbnailReady 썸네일 생성 완료 여부 (업로드 직후에는 false)
+ */
+public record PropertyPhotoResponse(
+        Long id,
+        String originalFilename,
+        String contentType,
+        long size,
+        boolean thumbnailReady,
+        LocalDateTime createdAt
+) {
+    public static PropertyPhotoResponse from(PropertyPhoto photo) {
+        return new PropertyPhotoResponse(
+                photo.getId(),
+                photo.getOriginalFilename(),
+                photo.getContentType(),
+                photo.getSize(),
+                photo.isThumbnailReady(),
+                photo.getCreatedAt()
+        );
+    }
+}
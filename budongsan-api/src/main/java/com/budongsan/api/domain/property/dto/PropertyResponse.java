@@ -0,0 +1,49 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.Property;
+import com.budongsan.core.domain.property.PropertyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 응답 DTO
+ *
+ * 검색 결과는 PropertyRepositoryImpl의 프로젝션 쿼리로 바로 생성 (엔티티/팀 로딩 없음)
+ * from(property)는 등록/수정 직후처럼 엔티티가 이미 있을 때만 사용
+ */
+public record PropertyResponse(
+        Long id,
+        Long teamId,
+        String title,
+        DealType dealType,
+        long price,
+        Long monthlyRent,
+        double area,
+        String district,
+        String address,
+        PropertyStatus status,
+        String memo,
+        Double latitude,
+        Double longitude,
+        LocalDateTime updatedAt
+) {
+    public static PropertyResponse from(Property property) {
+        return new PropertyResponse(
+                property.getId(),
+                property.getTeamId(),
+                property.getTitle(),
+                property.getDealType(),
+                property.getPrice(),
+                property.getMonthlyRent(),
+                property.getArea(),
+                property.getDistrict(),
+                property.getAddress(),
+                property.getStatus(),
+                property.getMemo(),
+                property.getLatitude(),
+                property.getLongitude(),
+                property.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.budongsan.api.domain.property.dto;
+
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.PropertyStatus;
+
+/**
+ * 매물 검색 조건 (쿼리 파라미터, 전부 선택)
+ *
+ * ex) GET /api/properties?dealType=JEONSE&minPrice=20000&maxPrice=30000&district=강남구&status=AVAILABLE
+ *
+ * @param minPrice 최소 가격 (만원, 이상)
+ * @param maxPrice 최대 가격 (만원, 이하)
+ * @param minArea  최소 면적 (㎡, 이상)
+ * @param maxArea  최대 면적 (㎡, 이하)
+ */
+public record PropertySearchCondition(
+        DealType dealType,
+        Long minPrice,
+        Long maxPrice,
+        Double minArea,
+        Double maxArea,
+        String district,
+        PropertyStatus status
+) {}
@@ -0,0 +1,11 @@
+package com.budongsan.api.domain.property.dto;
+
+/**
+ * 검색 인덱스에 넣을 매물 텍스트 (제목 / 주소 / 메모)
+ */
+public record PropertySearchDocument(
+        Long id,
+        String title,
+        String address,
+        String memo
+) {}
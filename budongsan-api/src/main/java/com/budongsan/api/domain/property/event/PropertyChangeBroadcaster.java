@@ -0,0 +1,86 @@
+package com.budongsan.api.domain.property.event;
+
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 매물 변경 이벤트를 모든 API 서버로 전파
+ *
+ * 흐름:
+ * 매물 서비스가 PropertyChangedEvent 발행 → 커밋 후 "property:changed" 채널에 JSON 발행
+ *   → 모든 서버(자기 자신 포함)가 수신 → PropertyChangeListener 구현체에 전달
+ *
+ * Redis 장애로 발행에 실패하면 자기 서버에만 바로 전달 (다른 서버는 인덱스 TTL로 정리됨)
+ */
+@Slf4j
+@Component
+public class PropertyChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "property:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<PropertyChangeListener> listeners;
+
+    public PropertyChangeBroadcaster(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            List<PropertyChangeListener> listeners,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listeners = listeners;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 커밋 후 전파 (롤백된 변경은 전파하지 않음)
+     * 트랜잭션 밖에서 발행된 이벤트(엑셀 가져오기 완료 등)도 바로 처리 (fallbackExecution)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("매물 변경 전파 실패, 로컬에만 반영: {}", event, e);
+            dispatch(event);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자기 자신)가 발행한 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            dispatch(objectMapper.readValue(message.getBody(), PropertyChangedEvent.class));
+        } catch (IOException e) {
+            log.warn("매물 변경 메시지 해석 실패", e);
+        }
+    }
+
+    private void dispatch(PropertyChangedEvent event) {
+        for (PropertyChangeListener listener : listeners) {
+            try {
+                listener.onPropertyChanged(event);
+            } catch (RuntimeException e) {
+                // 한 리스너 실패가 다른 리스너 갱신을 막지 않도록
+                log.warn("매물 변경 반영 실패: {} → {}", event, listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.budongsan.api.domain.property.event;
+
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+
+/**
+ * 매물 변경 수신 (모든 API 서버에서 호출됨, 변경을 일으킨 서버 포함)
+ *
+ * 서버 메모리에 매물 파생 데이터(지도 인덱스 등)를 들고 있는 컴포넌트가 구현
+ * → PropertyChangeBroadcaster가 Redis 채널로 받은 이벤트를 전달
+ */
+public interface PropertyChangeListener {
+
+    void onPropertyChanged(PropertyChangedEvent event);
+}
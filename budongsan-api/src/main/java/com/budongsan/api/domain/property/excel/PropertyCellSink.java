@@ -0,0 +1,14 @@
+package com.budongsan.api.domain.property.excel;
+
+/**
+ * 엑셀 한 행을 읽을 때마다 호출되는 콜백
+ * (읽기와 검증/저장을 분리 → 읽는 쪽은 행을 쌓아두지 않음)
+ */
+public interface PropertyCellSink {
+
+    /**
+     * @param rowNum 엑셀 행 번호 (헤더 = 1행, 빈 행은 전달되지 않음)
+     * @param cells  PropertyExcelColumns 순서의 셀 값 (호출마다 새 배열, 빈 셀 = null)
+     */
+    void accept(int rowNum, String[] cells);
+}
@@ -0,0 +1,28 @@
+package com.budongsan.api.domain.property.excel;
+
+/**
+ * 매물 엑셀 컬럼 순서 (가져오기/내보내기 공통)
+ *
+ * | 제목 | 거래유형 | 가격(만원) | 월세(만원) | 면적(㎡) | 지역 | 주소 | 메모 | 위도 | 경도 |
+ */
+public final class PropertyExcelColumns {
+
+    private PropertyExcelColumns() {}
+
+    public static final int TITLE = 0;
+    public static final int DEAL_TYPE = 1;
+    public static final int PRICE = 2;
+    public static final int MONTHLY_RENT = 3;
+    public static final int AREA = 4;
+    public static final int DISTRICT = 5;
+    public static final int ADDRESS = 6;
+    public static final int MEMO = 7;
+    public static final int LATITUDE = 8;
+    public static final int LONGITUDE = 9;
+
+    public static final int COUNT = 10;
+
+    public static final String[] HEADERS = {
+            "제목", "거래유형", "가격(만원)", "월세(만원)", "면적(㎡)", "지역", "주소", "메모", "위도", "경도"
+    };
+}
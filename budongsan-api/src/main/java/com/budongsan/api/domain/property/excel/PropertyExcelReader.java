@@ -0,0 +1,64 @@
+package com.budongsan.api.domain.property.excel;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 매물 엑셀(.xlsx) 스트리밍 읽기
+ *
+ * XSSFWorkbook은 시트 전체를 객체로 만들어 메모리에 올림 (20만 행이면 수 GB)
+ * → POI 이벤트 API(XSSFReader + SAX)로 시트 XML을 순서대로 읽으며 행 단위로 sink에 전달
+ *
+ * 메모리에 남는 것: 공유 문자열 테이블(중복 없는 문자열) + 현재 행 1개
+ * 첫 번째 시트만 읽음
+ */
+@Component
+public class PropertyExcelReader {
+
+    /**
+     * @param file 업로드된 엑셀 파일 (임시 파일, 랜덤 접근이 필요해서 InputStream 대신 File)
+     */
+    public void read(File file, PropertyCellSink sink) {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, sharedStrings, new PropertySheetHandler(sink), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | IllegalArgumentException e) {
+            // xlsx가 아니거나 깨진 파일
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.budongsan.api.domain.property.excel;
+
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.PropertyStatus;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.DeferredSXSSFSheet;
+import org.apache.poi.xssf.streaming.DeferredSXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 매물 엑셀(.xlsx) 스트리밍 쓰기
+ *
+ * DeferredSXSSFWorkbook (SXSSF의 지연 생성 버전):
+ * - 행을 미리 만들지 않고 write() 도중에 rowGenerator가 한 행씩 생성 → 바로 zip 스트림으로 압축 전송
+ * - 메모리에는 최근 window-size 행만 유지, 임시 파일도 만들지 않음
+ * → 첫 행부터 다운로드가 시작되고, 행 수와 상관없이 메모리 사용량 일정
+ *
+ * 앞 10개 컬럼은 가져오기 형식과 같음 → 내보낸 파일을 수정해서 다시 가져오기 가능
+ */
+@Component
+public class PropertyExcelWriter {
+
+    private static final String SHEET_NAME = "매물";
+    private static final String[] EXTRA_HEADERS = {"상태", "수정일시"};
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final int windowSize;
+
+    public PropertyExcelWriter(@Value("${property.export.window-size:100}") int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @param rows DB 커서 스트림 (write 중에 한 행씩 소비)
+     */
+    public void write(Stream<PropertyResponse> rows, OutputStream out) throws IOException {
+        DeferredSXSSFWorkbook workbook = new DeferredSXSSFWorkbook(windowSize);
+        try {
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+            DeferredSXSSFSheet sheet = workbook.createSheet(SHEET_NAME);
+            sheet.setRowGenerator(s -> {
+                Row header = s.createRow(0);
+                int col = 0;
+                for (String name : PropertyExcelColumns.HEADERS) {
+                    createCell(header, col++, headerStyle).setCellValue(name);
+                }
+                for (String name : EXTRA_HEADERS) {
+                    createCell(header, col++, headerStyle).setCellValue(name);
+                }
+
+                int rowNum = 1;
+                Iterator<PropertyResponse> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writeRow(s.createRow(rowNum++), iterator.next(), amountStyle);
+                }
+            });
+
+            workbook.write(out);
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private static void writeRow(Row row, PropertyResponse property, CellStyle amountStyle) {
+        row.createCell(PropertyExcelColumns.TITLE).setCellValue(property.title());
+        row.createCell(PropertyExcelColumns.DEAL_TYPE).setCellValue(dealTypeLabel(property.dealType()));
+        createCell(row, PropertyExcelColumns.PRICE, amountStyle).setCellValue(property.price());
+        if (property.monthlyRent() != null) {
+            createCell(row, PropertyExcelColumns.MONTHLY_RENT, amountStyle).setCellValue(property.monthlyRent());
+        }
+        row.createCell(PropertyExcelColumns.AREA).setCellValue(property.area());
+        row.createCell(PropertyExcelColumns.DISTRICT).setCellValue(property.district());
+        row.createCell(PropertyExcelColumns.ADDRESS).setCellValue(property.address());
+        if (property.memo() != null) {
+            row.createCell(PropertyExcelColumns.MEMO).setCellValue(property.memo());
+        }
+        if (property.latitude() != null) {
+            row.createCell(PropertyExcelColumns.LATITUDE).setCellValue(property.latitude());
+            row.createCell(PropertyExcelColumns.LONGITUDE).setCellValue(property.longitude());
+        }
+        row.createCell(PropertyExcelColumns.COUNT).setCellValue(statusLabel(property.status()));
+        row.createCell(PropertyExcelColumns.COUNT + 1).setCellValue(property.updatedAt().format(DATE_TIME_FORMAT));
+    }
+
+    private static Cell createCell(Row row, int col, CellStyle style) {
+        Cell cell = row.createCell(col);
+        cell.setCellStyle(style);
+        return cell;
+    }
+
+    // 가져오기(PropertySheetHandler)에서 읽을 수 있는 표기
+    private static String dealTypeLabel(DealType dealType) {
+        return switch (dealType) {
+            case SALE -> "매매";
+            case JEONSE -> "전세";
+            case MONTHLY_RENT -> "월세";
+        };
+    }
+
+    private static String statusLabel(PropertyStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "거래 가능";
+            case RESERVED -> "계약 중";
+            case CONTRACTED -> "거래 완료";
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.budongsan.api.domain.property.excel;
+
+import com.budongsan.core.domain.property.DealType;
+
+/**
+ * 엑셀에서 읽어 검증을 통과한 매물 1행
+ *
+ * @param rowNum 엑셀 행 번호 (1부터, 헤더 = 1행)
+ */
+public record PropertyRow(
+        int rowNum,
+        String title,
+        DealType dealType,
+        long price,
+        Long monthlyRent,
+        double area,
+        String district,
+        String address,
+        String memo,
+        Double latitude,
+        Double longitude
+) {}
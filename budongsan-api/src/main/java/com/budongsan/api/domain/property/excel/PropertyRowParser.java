@@ -0,0 +1,130 @@
+package com.budongsan.api.domain.property.excel;
+
+import com.budongsan.core.domain.property.DealType;
+
+import java.math.BigDecimal;
+
+/**
+ * 엑셀 한 행(셀 문자열 배열) → 매물 행 변환 + 검증
+ *
+ * 상태 없는 정적 메서드라 여러 스레드에서 동시에 호출해도 됨
+ * (가져오기 작업은 chunk를 나눠 검증 워커 풀에서 병렬로 검증)
+ */
+public final class PropertyRowParser {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DISTRICT_LENGTH = 50;
+    private static final int MAX_ADDRESS_LENGTH = 255;
+    private static final int MAX_MEMO_LENGTH = 1000;
+
+    private PropertyRowParser() {}
+
+    /**
+     * @param excelRow 엑셀 화면 기준 행 번호
+     * @param cells    PropertyExcelColumns 순서의 셀 값 (빈 셀 = null)
+     * @throws IllegalArgumentException 검증 실패 (메시지 = 사용자에게 보여줄 사유)
+     */
+    public static PropertyRow parse(int excelRow, String[] cells) {
+        DealType dealType = parseDealType(required(cells, PropertyExcelColumns.DEAL_TYPE, "거래유형"));
+        Long monthlyRent = optionalLong(cells, PropertyExcelColumns.MONTHLY_RENT, "월세");
+        if (dealType == DealType.MONTHLY_RENT && monthlyRent == null) {
+            throw new IllegalArgumentException("월세 매물은 월세를 입력해야 합니다.");
+        }
+
+        long price = requiredLong(cells, PropertyExcelColumns.PRICE, "가격");
+        double area = parseDecimal(required(cells, PropertyExcelColumns.AREA, "면적"), "면적").doubleValue();
+        if (area <= 0) {
+            throw new IllegalArgumentException("면적은 0보다 커야 합니다.");
+        }
+
+        Double latitude = optionalCoordinate(cells, PropertyExcelColumns.LATITUDE, "위도", 90);
+        Double longitude = optionalCoordinate(cells, PropertyExcelColumns.LONGITUDE, "경도", 180);
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+
+        return new PropertyRow(
+                excelRow,
+                limited(required(cells, PropertyExcelColumns.TITLE, "제목"), MAX_TITLE_LENGTH, "제목"),
+                dealType,
+                price,
+                dealType == DealType.MONTHLY_RENT ? monthlyRent : null,
+                area,
+                limited(required(cells, PropertyExcelColumns.DISTRICT, "지역"), MAX_DISTRICT_LENGTH, "지역"),
+                limited(required(cells, PropertyExcelColumns.ADDRESS, "주소"), MAX_ADDRESS_LENGTH, "주소"),
+                limited(cells[PropertyExcelColumns.MEMO], MAX_MEMO_LENGTH, "메모"),
+                latitude,
+                longitude
+        );
+    }
+
+    private static String required(String[] cells, int col, String name) {
+        String value = cells[col];
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + "을(를) 입력해주세요.");
+        }
+        return value;
+    }
+
+    private static long requiredLong(String[] cells, int col, String name) {
+        return toNonNegativeLong(parseDecimal(required(cells, col, name), name), name);
+    }
+
+    private static Long optionalLong(String[] cells, int col, String name) {
+        String value = cells[col];
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return toNonNegativeLong(parseDecimal(value, name), name);
+    }
+
+    private static Double optionalCoordinate(String[] cells, int col, String name, double limit) {
+        String value = cells[col];
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        double coordinate = parseDecimal(value, name).doubleValue();
+        if (coordinate < -limit || coordinate > limit) {
+            throw new IllegalArgumentException(name + "는 -" + (int) limit + " ~ " + (int) limit + " 사이여야 합니다.");
+        }
+        return coordinate;
+    }
+
+    private static long toNonNegativeLong(BigDecimal value, String name) {
+        try {
+            long result = value.longValueExact();
+            if (result < 0) {
+                throw new IllegalArgumentException(name + "은(는) 0 이상이어야 합니다.");
+            }
+            return result;
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + "은(는) 정수로 입력해주세요.");
+        }
+    }
+
+    // "50,000" 처럼 천 단위 구분 기호가 붙은 서식도 허용
+    private static BigDecimal parseDecimal(String value, String name) {
+        try {
+            return new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static String limited(String value, int maxLength, String name) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(name + "은(는) " + maxLength + "자 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    // "매매/전세/월세" 또는 enum 이름 (SALE/JEONSE/MONTHLY_RENT)
+    private static DealType parseDealType(String value) {
+        return switch (value) {
+            case "매매", "SALE" -> DealType.SALE;
+            case "전세", "JEONSE" -> DealType.JEONSE;
+            case "월세", "MONTHLY_RENT" -> DealType.MONTHLY_RENT;
+            default -> throw new IllegalArgumentException("거래유형은 매매/전세/월세 중 하나여야 합니다: " + value);
+        };
+    }
+}
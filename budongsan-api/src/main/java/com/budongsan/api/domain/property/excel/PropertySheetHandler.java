@@ -0,0 +1,56 @@
+package com.budongsan.api.domain.property.excel;
+
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+import java.util.Arrays;
+
+/**
+ * 시트 SAX 이벤트 → 행 단위 셀 배열
+ *
+ * 셀 값은 행 하나 크기의 배열에만 담았다가 행이 끝나면 복사본을 sink로 넘김
+ * → 파일 행 수와 상관없이 메모리 사용량 일정
+ * 검증은 하지 않음 (PropertyRowParser, 호출하는 쪽에서 병렬로)
+ */
+class PropertySheetHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+    private static final int HEADER_ROW = 0;
+
+    private final PropertyCellSink sink;
+    private final String[] cells = new String[PropertyExcelColumns.COUNT]; // 행마다 재사용
+
+    PropertySheetHandler(PropertyCellSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+        Arrays.fill(cells, null);
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        int col = new CellReference(cellReference).getCol();
+        if (col < PropertyExcelColumns.COUNT) {
+            cells[col] = formattedValue != null ? formattedValue.trim() : null;
+        }
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        if (rowNum == HEADER_ROW || isBlankRow()) {
+            return;
+        }
+        sink.accept(rowNum + 1, cells.clone()); // 엑셀 화면 기준 행 번호
+    }
+
+    private boolean isBlankRow() {
+        for (String cell : cells) {
+            if (cell != null && !cell.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,390 @@
+package com.budongsan.api.domain.property.importjob;
+
+import com.budongsan.api.domain.property.dto.PropertyImportJobResponse;
+import com.budongsan.api.domain.property.excel.PropertyCellSink;
+import com.budongsan.api.domain.property.excel.PropertyExcelReader;
+import com.budongsan.api.domain.property.excel.PropertyRow;
+import com.budongsan.api.domain.property.excel.PropertyRowParser;
+import com.budongsan.api.domain.property.repository.PropertyImportJobRepository;
+import com.budongsan.api.domain.property.repository.PropertyJdbcRepository;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.budongsan.core.domain.property.PropertyImportJob;
+import com.budongsan.core.domain.property.PropertyImportJobStatus;
+import com.budongsan.core.exception.BusinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매물 엑셀 가져오기 작업 실행기
+ *
+ * 흐름 (작업 하나):
+ * SAX로 한 행씩 읽어 chunk-size 만큼 모음
+ * → chunk를 나눠 검증 워커 풀에서 병렬 검증 (행 순서 유지)
+ * → 통과한 행 batch insert + 작업 원장(lastCommittedRow) 갱신을 한 트랜잭션으로 커밋
+ * → Redis 진행 상황 갱신
+ *
+ * 재개:
+ * 서버가 죽으면 Redis 잠금이 TTL로 풀리고, 원장에는 마지막 커밋 chunk까지만 남아 있음
+ * → resume-interval마다 끝나지 않은 작업을 찾아 lastCommittedRow 다음 행부터 다시 실행
+ * → 업로드 파일은 받은 서버의 job-dir에 있으므로 같은 서버(또는 공유 디스크)에서만 재개
+ *
+ * 종료 시에는 진행 중인 chunk까지만 커밋하고 RUNNING으로 남겨둠 (다음 기동 때 이어서)
+ *
+ * 중복 저장 방지 (잠금이 만료돼 두 서버가 같은 작업을 실행하게 된 경우):
+ * - chunk 커밋 전에 잠금 연장 → 내 잠금이 아니면 중단
+ * - 커밋 트랜잭션에서 원장 행을 잠그고 lastCommittedRow가 직전에 커밋한 행인지 확인 → 아니면 롤백 후 중단
+ *
+ * 메트릭:
+ * - property.import.chunk       : chunk 검증 + 저장 시간
+ * - property.import.jobs.active : 실행 중인 작업 수
+ */
+@Slf4j
+@Component
+public class PropertyImportJobRunner {
+
+    private static final List<PropertyImportJobStatus> UNFINISHED =
+            List.of(PropertyImportJobStatus.QUEUED, PropertyImportJobStatus.RUNNING);
+    private static final String UNEXPECTED_FAILURE = "가져오기 중 오류가 발생했습니다.";
+
+    private final PropertyExcelReader propertyExcelReader;
+    private final PropertyJdbcRepository propertyJdbcRepository;
+    private final PropertyImportJobRepository propertyImportJobRepository;
+    private final PropertyImportProgressStore progressStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int validationThreads;
+
+    private final ThreadPoolExecutor jobExecutor;        // 작업 동시 실행 수 제한
+    private final ThreadPoolExecutor validationExecutor; // chunk 병렬 검증
+    private final Timer chunkTimer;
+
+    private volatile boolean stopping;
+
+    public PropertyImportJobRunner(
+            PropertyExcelReader propertyExcelReader,
+            PropertyJdbcRepository propertyJdbcRepository,
+            PropertyImportJobRepository propertyImportJobRepository,
+            PropertyImportProgressStore progressStore,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${property.import.chunk-size:1000}") int chunkSize,
+            @Value("${property.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${property.import.queue-capacity:16}") int queueCapacity,
+            @Value("${property.import.validation-threads:0}") int validationThreads
+    ) {
+        this.propertyExcelReader = propertyExcelReader;
+        this.propertyJdbcRepository = propertyJdbcRepository;
+        this.propertyImportJobRepository = propertyImportJobRepository;
+        this.progressStore = progressStore;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.validationThreads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+
+        this.jobExecutor = new ThreadPoolExecutor(
+                maxConcurrentJobs, maxConcurrentJobs,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("property-import-"),
+                new ThreadPoolExecutor.AbortPolicy() // 꽉 차면 QUEUED로 두고 다음 재개 주기에 실행
+        );
+        // 대기열 길이는 (동시 작업 수 × 스레드 수)를 넘지 않음 → 크기 제한 불필요
+        this.validationExecutor = new ThreadPoolExecutor(
+                this.validationThreads, this.validationThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("property-import-validate-")
+        );
+
+        this.chunkTimer = Timer.builder("property.import.chunk")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("property.import.jobs.active", jobExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 실행 요청 (다른 서버/스레드가 실행 중이거나 대기열이 꽉 차면 false)
+     */
+    public boolean submit(Long jobId) {
+        if (stopping || !progressStore.tryLock(jobId)) {
+            return false;
+        }
+        try {
+            jobExecutor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            progressStore.unlock(jobId);
+            return false;
+        }
+    }
+
+    /**
+     * 끝나지 않은 작업 이어서 실행 (서버 재시작, 다른 서버 장애, 대기열 초과로 밀린 작업)
+     */
+    @Scheduled(initialDelayString = "${property.import.resume-delay:10000}",
+            fixedDelayString = "${property.import.resume-interval:60000}")
+    public void resumeUnfinishedJobs() {
+        try {
+            for (PropertyImportJob job : propertyImportJobRepository.findByStatusIn(UNFINISHED)) {
+                // 업로드 파일이 이 서버에 없으면 받은 서버가 재개
+                if (Files.exists(Path.of(job.getStoredPath())) && submit(job.getId())) {
+                    log.info("매물 가져오기 작업 재개: 작업 {} ({}행 이후)", job.getId(), job.getLastCommittedRow());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("매물 가져오기 작업 재개 실패", e);
+        }
+    }
+
+    private void run(Long jobId) {
+        ChunkPipeline pipeline = null;
+        try {
+            PropertyImportJob job = transactionTemplate.execute(status -> {
+                PropertyImportJob found = propertyImportJobRepository.findById(jobId).orElse(null);
+                if (found != null && !found.getStatus().isFinished()) {
+                    found.start();
+                }
+                return found;
+            });
+            if (job == null || job.getStatus().isFinished()) {
+                return;
+            }
+            progressStore.save(job);
+
+            Path file = Path.of(job.getStoredPath());
+            if (!Files.exists(file)) {
+                finish(jobId, "업로드 파일을 찾을 수 없습니다.");
+                return;
+            }
+
+            pipeline = new ChunkPipeline(job);
+            propertyExcelReader.read(file.toFile(), pipeline);
+            pipeline.flush();
+
+            finish(jobId, null);
+            deleteQuietly(file);
+        } catch (StoppingException e) {
+            log.info("서버 종료로 매물 가져오기 작업 중단 (다음 기동 시 재개): 작업 {}", jobId);
+        } catch (LockLostException e) {
+            log.warn("매물 가져오기 잠금을 잃어 작업 중단 (다른 서버가 이어서 실행): 작업 {}", jobId);
+        } catch (BusinessException e) {
+            failQuietly(jobId, e.getErrorCode().getMessage());
+        } catch (RuntimeException e) {
+            log.error("매물 가져오기 작업 실패: 작업 {}", jobId, e);
+            failQuietly(jobId, UNEXPECTED_FAILURE);
+        } finally {
+            // 중간에 실패해도 이미 커밋된 chunk가 있으면 지도 인덱스 / 검색 캐시 등 갱신
+            if (pipeline != null && pipeline.importedRows > 0) {
+                eventPublisher.publishEvent(PropertyChangedEvent.bulkImported(pipeline.teamId));
+            }
+            progressStore.unlock(jobId);
+        }
+    }
+
+    /**
+     * 완료 (failureMessage != null 이면 실패) 처리 후 진행 상황 반영
+     */
+    private void finish(Long jobId, String failureMessage) {
+        PropertyImportJob job = transactionTemplate.execute(status -> {
+            PropertyImportJob found = propertyImportJobRepository.findById(jobId).orElseThrow();
+            if (failureMessage == null) {
+                found.complete();
+            } else {
+                found.fail(failureMessage);
+            }
+            return found;
+        });
+        progressStore.save(job);
+    }
+
+    private void failQuietly(Long jobId, String message) {
+        try {
+            finish(jobId, message);
+        } catch (RuntimeException e) {
+            // DB 장애 등 → RUNNING으로 남아 다음 재개 주기에 다시 시도
+            log.warn("매물 가져오기 작업 실패 처리 실패: 작업 {}", jobId, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("가져오기 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopping = true; // 실행 중인 작업은 현재 chunk까지만 커밋하고 멈춤
+        jobExecutor.shutdown();
+        if (!jobExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            jobExecutor.shutdownNow();
+        }
+        validationExecutor.shutdownNow();
+    }
+
+    private record CellRow(int rowNum, String[] cells) {}
+
+    // chunk 병렬 검증 결과 (조각 하나)
+    private record Validated(List<PropertyRow> rows, List<PropertyImportJobResponse.RowError> errors) {}
+
+    /**
+     * 읽은 행을 chunk 크기만큼만 버퍼에 담았다가 병렬 검증 → 저장
+     */
+    private class ChunkPipeline implements PropertyCellSink {
+
+        private final Long jobId;
+        private final Long teamId;
+        private final int resumeAfterRow; // 이 행까지는 이미 커밋됨 (재개 시 건너뜀)
+        private int committedRow;         // 이 실행이 마지막으로 커밋한 행 (원장과 다르면 다른 서버가 끼어든 것)
+        private final List<CellRow> buffer = new ArrayList<>(chunkSize);
+        private int storedErrors;
+        private int importedRows; // 이번 실행에서 저장한 행 수
+
+        ChunkPipeline(PropertyImportJob job) {
+            this.jobId = job.getId();
+            this.teamId = job.getTeamId();
+            this.resumeAfterRow = job.getLastCommittedRow();
+            this.committedRow = resumeAfterRow;
+            this.storedErrors = resumeAfterRow > 0 ? progressStore.errorCount(jobId) : 0;
+        }
+
+        @Override
+        public void accept(int rowNum, String[] cells) {
+            if (rowNum <= resumeAfterRow) {
+                return;
+            }
+            buffer.add(new CellRow(rowNum, cells));
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            if (stopping) {
+                throw new StoppingException();
+            }
+            chunkTimer.record(this::commitChunk);
+            buffer.clear();
+        }
+
+        private void commitChunk() {
+            Validated validated = validateInParallel();
+            int lastRow = buffer.getLast().rowNum();
+
+            if (!progressStore.extendLock(jobId)) {
+                throw new LockLostException();
+            }
+
+            // 매물 INSERT + 원장 갱신을 한 트랜잭션으로 → 재개 기준이 저장된 데이터와 항상 일치
+            PropertyImportJob job = transactionTemplate.execute(status -> {
+                PropertyImportJob found = propertyImportJobRepository.findByIdForUpdate(jobId).orElseThrow();
+                if (found.getLastCommittedRow() != committedRow) {
+                    throw new LockLostException(); // 다른 서버가 이미 이어서 커밋함 → 이 chunk는 저장하지 않음
+                }
+                if (!validated.rows().isEmpty()) {
+                    propertyJdbcRepository.batchInsert(teamId, validated.rows());
+                }
+                found.commitChunk(lastRow, validated.rows().size(), validated.errors().size());
+                return found;
+            });
+            committedRow = lastRow;
+            importedRows += validated.rows().size();
+
+            storedErrors = progressStore.appendErrors(jobId, validated.errors(), storedErrors);
+            progressStore.save(job);
+        }
+
+        /**
+         * chunk를 검증 스레드 수만큼 나눠 동시에 검증, 결과는 원래 행 순서대로 합침
+         */
+        private Validated validateInParallel() {
+            int sliceSize = Math.ceilDiv(buffer.size(), validationThreads);
+            List<CompletableFuture<Validated>> slices = new ArrayList<>();
+            for (int from = 0; from < buffer.size(); from += sliceSize) {
+                List<CellRow> slice = buffer.subList(from, Math.min(from + sliceSize, buffer.size()));
+                slices.add(CompletableFuture.supplyAsync(() -> validate(slice), validationExecutor));
+            }
+
+            List<PropertyRow> rows = new ArrayList<>(buffer.size());
+            List<PropertyImportJobResponse.RowError> errors = new ArrayList<>();
+            for (CompletableFuture<Validated> slice : slices) {
+                Validated validated = slice.join();
+                rows.addAll(validated.rows());
+                errors.addAll(validated.errors());
+            }
+            return new Validated(rows, errors);
+        }
+
+        private static Validated validate(List<CellRow> slice) {
+            List<PropertyRow> rows = new ArrayList<>(slice.size());
+            List<PropertyImportJobResponse.RowError> errors = new ArrayList<>();
+            for (CellRow cellRow : slice) {
+                try {
+                    rows.add(PropertyRowParser.parse(cellRow.rowNum(), cellRow.cells()));
+                } catch (IllegalArgumentException e) {
+                    errors.add(new PropertyImportJobResponse.RowError(cellRow.rowNum(), e.getMessage()));
+                }
+            }
+            return new Validated(rows, errors);
+        }
+    }
+
+    // 서버 종료 중 → chunk 경계에서 작업 중단 (SAX 파싱을 빠져나오기 위한 예외)
+    private static class StoppingException extends RuntimeException {
+        StoppingException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // 잠금 만료 후 다른 서버가 같은 작업을 이어서 실행 중 → 이 서버는 중단
+    private static class LockLostException extends RuntimeException {
+        LockLostException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 스레드 이름: property-import-1, property-import-validate-1 ... (스레드 덤프에서 구분용)
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.budongsan.api.domain.property.importjob;
+
+import com.budongsan.api.domain.property.dto.PropertyImportJobResponse;
+import com.budongsan.core.domain.property.PropertyImportJob;
+import com.budongsan.core.domain.property.PropertyImportJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가져오기 작업 진행 상황 / 실행 잠금 (Redis)
+ *
+ * 키 구성:
+ * "IMPORTJOB:{작업 id}"        → HASH (teamId, status, importedRows, failedRows, message)
+ * "IMPORTJOB:{작업 id}:errors" → LIST ("행 번호:사유", 최대 max-errors개)
+ * "IMPORTJOB:{작업 id}:lock"   → 실행 중인 서버 id (TTL, chunk마다 연장)
+ *
+ * 폴링/스트림은 여기만 읽음 → 진행 상황을 볼 때 DB를 조회하지 않음
+ * Redis 장애 시 조회는 없음으로 처리 → 호출하는 쪽이 DB 원장(PropertyImportJob)으로 응답
+ * 잠금은 TTL이 있어 실행하던 서버가 죽으면 풀림 → 다른 서버(또는 재시작한 서버)가 이어서 실행
+ * 연장/해제는 잠금 값이 내 서버 id일 때만 (Lua) → GC 멈춤 등으로 만료된 뒤 다른 서버 잠금을 연장하지 않음
+ */
+@Slf4j
+@Component
+public class PropertyImportProgressStore {
+
+    private static final String KEY_PREFIX = "IMPORTJOB:";
+    private static final String ERRORS_SUFFIX = ":errors";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    // 서버 인스턴스 구분 (잠금 소유자)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> importLockExtendScript;
+    private final RedisScript<Long> importLockReleaseScript;
+    private final Duration progressTtl;
+    private final Duration lockTtl;
+    private final int maxErrors;
+
+    public PropertyImportProgressStore(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScript<Long> importLockExtendScript,
+            RedisScript<Long> importLockReleaseScript,
+            @Value("${property.import.progress-ttl:1d}") Duration progressTtl,
+            @Value("${property.import.lock-ttl:5m}") Duration lockTtl,
+            @Value("${property.import.max-errors:100}") int maxErrors
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.importLockExtendScript = importLockExtendScript;
+        this.importLockReleaseScript = importLockReleaseScript;
+        this.progressTtl = progressTtl;
+        this.lockTtl = lockTtl;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 진행 상황 저장 (커밋된 chunk 기준 값)
+     * 실패해도 작업은 계속 (DB 원장이 기준, 다음 chunk에서 다시 덮어씀)
+     */
+    public void save(PropertyImportJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("teamId", job.getTeamId().toString());
+        fields.put("status", job.getStatus().name());
+        fields.put("importedRows", Integer.toString(job.getImportedRows()));
+        fields.put("failedRows", Integer.toString(job.getFailedRows()));
+        fields.put("message", job.getFailureMessage() != null ? job.getFailureMessage() : "");
+
+        String key = KEY_PREFIX + job.getId();
+        try {
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, progressTtl);
+        } catch (DataAccessException e) {
+            log.warn("가져오기 진행 상황 저장 실패: 작업 {}", job.getId(), e);
+        }
+    }
+
+    /**
+     * 검증 실패 행 추가 (max-errors개까지만 보관)
+     *
+     * @param stored 이미 보관된 개수 (호출하는 쪽에서 관리, 초과분은 보내지도 않음)
+     * @return 추가 후 보관된 개수
+     */
+    public int appendErrors(Long jobId, List<PropertyImportJobResponse.RowError> errors, int stored) {
+        int room = maxErrors - stored;
+        if (room <= 0 || errors.isEmpty()) {
+            return stored;
+        }
+        List<String> values = errors.subList(0, Math.min(room, errors.size())).stream()
+                .map(error -> error.row() + ":" + error.message())
+                .toList();
+
+        String key = KEY_PREFIX + jobId + ERRORS_SUFFIX;
+        try {
+            redisTemplate.opsForList().rightPushAll(key, values);
+            redisTemplate.expire(key, progressTtl);
+            return stored + values.size();
+        } catch (DataAccessException e) {
+            log.warn("가져오기 실패 행 저장 실패: 작업 {}", jobId, e);
+            return stored;
+        }
+    }
+
+    // 보관된 실패 행 개수 (재개 시 이어서 세기, Redis 장애면 0 → 보관 목록은 다음 추가부터 다시 채움)
+    public int errorCount(Long jobId) {
+        try {
+            Long size = redisTemplate.opsForList().size(KEY_PREFIX + jobId + ERRORS_SUFFIX);
+            return size != null ? size.intValue() : 0;
+        } catch (DataAccessException e) {
+            log.warn("가져오기 실패 행 개수 조회 실패: 작업 {}", jobId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 진행 상황 조회 (만료됐거나 Redis 장애면 empty → DB 원장으로 응답)
+     */
+    public Optional<Snapshot> find(Long jobId) {
+        Map<Object, Object> fields;
+        List<String> storedErrors;
+        try {
+            fields = redisTemplate.opsForHash().entries(KEY_PREFIX + jobId);
+            if (fields.isEmpty()) {
+                return Optional.empty();
+            }
+            storedErrors = redisTemplate.opsForList().range(KEY_PREFIX + jobId + ERRORS_SUFFIX, 0, -1);
+        } catch (DataAccessException e) {
+            log.warn("가져오기 진행 상황 조회 실패: 작업 {}", jobId, e);
+            return Optional.empty();
+        }
+        List<PropertyImportJobResponse.RowError> errors = storedErrors == null ? List.of() : storedErrors.stream()
+                .map(PropertyImportProgressStore::toRowError)
+                .toList();
+
+        int importedRows = Integer.parseInt((String) fields.get("importedRows"));
+        int failedRows = Integer.parseInt((String) fields.get("failedRows"));
+        String message = (String) fields.get("message");
+        return Optional.of(new Snapshot(
+                Long.valueOf((String) fields.get("teamId")),
+                new PropertyImportJobResponse(
+                        jobId,
+                        PropertyImportJobStatus.valueOf((String) fields.get("status")),
+                        importedRows + failedRows,
+                        importedRows,
+                        failedRows,
+                        errors,
+                        failedRows > errors.size(),
+                        message == null || message.isEmpty() ? null : message
+                )));
+    }
+
+    /**
+     * 실행 잠금 획득 (SET NX + TTL) → 같은 작업을 두 서버가 동시에 실행하지 않음
+     * Redis 장애면 false (소유를 확인할 수 없으므로 실행하지 않고 QUEUED로 두면 재개 주기에 다시 시도)
+     */
+    public boolean tryLock(Long jobId) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + jobId + LOCK_SUFFIX, nodeId, lockTtl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataAccessException e) {
+            log.warn("가져오기 잠금 획득 실패: 작업 {}", jobId, e);
+            return false;
+        }
+    }
+
+    /**
+     * chunk 커밋 전마다 연장 (실행 중인 동안 잠금 유지)
+     *
+     * @return false = 잠금이 만료돼 다른 서버가 가져갔거나 없음 → 호출하는 쪽은 작업 중단
+     *         Redis 장애는 true (소유 여부를 알 수 없음, 중복 저장은 원장의 lastCommittedRow 확인이 막음)
+     */
+    public boolean extendLock(Long jobId) {
+        try {
+            Long extended = redisTemplate.execute(importLockExtendScript,
+                    List.of(KEY_PREFIX + jobId + LOCK_SUFFIX), nodeId, Long.toString(lockTtl.toMillis()));
+            return !Long.valueOf(0L).equals(extended);
+        } catch (DataAccessException e) {
+            log.warn("가져오기 잠금 연장 실패: 작업 {}", jobId, e);
+            return true;
+        }
+    }
+
+    public void unlock(Long jobId) {
+        try {
+            // 잠금이 만료돼 다른 서버가 가져갔으면 건드리지 않음
+            redisTemplate.execute(importLockReleaseScript, List.of(KEY_PREFIX + jobId + LOCK_SUFFIX), nodeId);
+        } catch (DataAccessException e) {
+            // TTL이 지나면 풀림
+            log.warn("가져오기 잠금 해제 실패: 작업 {}", jobId, e);
+        }
+    }
+
+    // "12:제목을(를) 입력해주세요." → (12, "제목을(를) 입력해주세요.")
+    private static PropertyImportJobResponse.RowError toRowError(String value) {
+        int separator = value.indexOf(':');
+        return new PropertyImportJobResponse.RowError(
+                Integer.parseInt(value.substring(0, separator)), value.substring(separator + 1));
+    }
+
+    /**
+     * @param teamId 작업 대상 팀 (권한 확인용)
+     */
+    public record Snapshot(Long teamId, PropertyImportJobResponse progress) {}
+}
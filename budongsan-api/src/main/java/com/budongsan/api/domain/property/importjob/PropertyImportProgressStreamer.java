@@ -0,0 +1,210 @@
+package com.budongsan.api.domain.property.importjob;
+
+import com.budongsan.api.domain.property.dto.PropertyImportJobResponse;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 가져오기 진행 상황 SSE 전송 (서버별)
+ *
+ * stream-interval마다 스트림별로 진행 상황을 읽어 바뀌었을 때만 "progress" 이벤트 전송
+ * 작업이 끝나면 마지막 상태를 보내고 스트림 종료
+ *
+ * 전송 (TeamActivityHub와 같은 방식):
+ * - 주기 신호(@Scheduled)는 공용 스케줄러 스레드에서 작업만 넣고 바로 반환
+ *   → 느린 클라이언트에 막힌 쓰기가 다른 @Scheduled 작업(폐기 목록 재생성, 가져오기 재개 등)을 멈추지 않음
+ * - 조회/쓰기는 전송 전용 스레드풀, 스트림마다 작업은 최대 1개 (이전 전송이 안 끝났으면 이번 주기는 건너뜀)
+ * - 쓰기 1건이 send-timeout 안에 끝나지 않는 스트림은 다음 주기에 끊음
+ *
+ * 메트릭:
+ * - property.import.streams         : 열린 스트림 수
+ * - property.import.streams.stalled : 쓰기가 send-timeout을 넘겨 끊은 스트림 수
+ */
+@Slf4j
+@Component
+public class PropertyImportProgressStreamer {
+
+    private final Set<ProgressStream> streams = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+
+    private final int maxStreams;
+    private final long streamTimeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Counter stalledCounter;
+
+    public PropertyImportProgressStreamer(
+            MeterRegistry meterRegistry,
+            @Value("${property.import.max-streams:1000}") int maxStreams,
+            @Value("${property.import.stream-threads:2}") int streamThreads,
+            @Value("${property.import.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${property.import.send-timeout:5s}") Duration sendTimeout
+    ) {
+        this.maxStreams = maxStreams;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        // 스트림마다 전송 작업은 최대 1개만 대기 (sending 표시) → 대기열은 스트림 수만큼이면 충분
+        this.sender = new ThreadPoolExecutor(
+                streamThreads, streamThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxStreams),
+                new StreamThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 꽉 차면 RejectedExecutionException
+        );
+
+        this.stalledCounter = Counter.builder("property.import.streams.stalled").register(meterRegistry);
+        Gauge.builder("property.import.streams", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 진행 상황 스트림 열기 (권한 확인은 호출하는 쪽에서)
+     *
+     * @param progress 현재 진행 상황 조회 (전송 스레드에서 호출, null이면 이번 주기는 건너뜀)
+     */
+    public SseEmitter open(Long jobId, Supplier<PropertyImportJobResponse> progress) {
+        if (connections.incrementAndGet() > maxStreams) {
+            connections.decrementAndGet();
+            throw new BusinessException(ErrorCode.STREAM_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        ProgressStream stream = new ProgressStream(jobId, emitter, progress);
+        streams.add(stream);
+
+        emitter.onCompletion(() -> remove(stream));
+        emitter.onTimeout(() -> remove(stream));
+        emitter.onError(error -> remove(stream));
+
+        schedule(stream); // 첫 상태는 주기를 기다리지 않고 바로
+        return emitter;
+    }
+
+    /**
+     * 스트림별 전송 예약 + 쓰기가 막힌 스트림 종료
+     * completeWithError는 send와 달리 emitter 잠금을 잡지 않음 → 막힌 쓰기를 기다리지 않고 바로 닫힘
+     */
+    @Scheduled(fixedDelayString = "${property.import.stream-interval:1s}")
+    public void tick() {
+        long now = System.nanoTime();
+        for (ProgressStream stream : streams) {
+            long startedAt = stream.sendStartedAt().get();
+            if (startedAt != 0L && now - startedAt >= sendTimeoutNanos) {
+                remove(stream);
+                stalledCounter.increment();
+                log.debug("가져오기 진행 상황 전송 지연으로 스트림 종료: 작업 {}", stream.jobId());
+                stream.emitter().completeWithError(new TimeoutException("SSE 쓰기 시간 초과"));
+                continue;
+            }
+            schedule(stream);
+        }
+    }
+
+    private void schedule(ProgressStream stream) {
+        if (stream.closed().get() || !stream.sending().compareAndSet(false, true)) {
+            return; // 이전 전송이 아직 진행 중 → 이번 주기는 건너뜀
+        }
+        try {
+            sender.execute(() -> push(stream));
+        } catch (RejectedExecutionException e) {
+            stream.sending().set(false); // 다음 주기에 다시 시도
+        }
+    }
+
+    private void push(ProgressStream stream) {
+        try {
+            PropertyImportJobResponse progress = stream.progress().get();
+            if (progress == null) {
+                return;
+            }
+            if (!progress.equals(stream.lastSent().getAndSet(progress))) {
+                stream.sendStartedAt().set(System.nanoTime());
+                stream.emitter().send(SseEmitter.event().name("progress").data(progress));
+                stream.sendStartedAt().set(0L);
+            }
+            if (progress.isFinished()) {
+                remove(stream);
+                stream.emitter().complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김 / 이미 완료된 emitter (지연으로 끊긴 스트림 포함)
+            remove(stream);
+            stream.emitter().completeWithError(e);
+        } catch (RuntimeException e) {
+            log.warn("가져오기 진행 상황 스트림 실패: 작업 {}", stream.jobId(), e);
+            remove(stream);
+            stream.emitter().completeWithError(e);
+        } finally {
+            stream.sendStartedAt().set(0L);
+            stream.sending().set(false);
+        }
+    }
+
+    private void remove(ProgressStream stream) {
+        if (!stream.closed().compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        streams.remove(stream);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        streams.forEach(stream -> stream.emitter().complete());
+    }
+
+    /**
+     * @param lastSent      마지막으로 보낸 진행 상황 (바뀌었을 때만 전송)
+     * @param sending       전송 작업이 대기/실행 중
+     * @param closed        스트림 종료 (중복 제거 방지)
+     * @param sendStartedAt 진행 중인 쓰기 시작 시각 (System.nanoTime, 0이면 쓰는 중 아님)
+     */
+    private record ProgressStream(
+            Long jobId,
+            SseEmitter emitter,
+            Supplier<PropertyImportJobResponse> progress,
+            AtomicReference<PropertyImportJobResponse> lastSent,
+            AtomicBoolean sending,
+            AtomicBoolean closed,
+            AtomicLong sendStartedAt
+    ) {
+        ProgressStream(Long jobId, SseEmitter emitter, Supplier<PropertyImportJobResponse> progress) {
+            this(jobId, emitter, progress, new AtomicReference<>(), new AtomicBoolean(), new AtomicBoolean(), new AtomicLong());
+        }
+    }
+
+    /**
+     * 스레드 이름: import-stream-1, import-stream-2 ... (스레드 덤프에서 구분용)
+     */
+    private static class StreamThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "import-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.budongsan.api.domain.property.map;
+
+/**
+ * 지도 화면 영역 (남서 ~ 북동 모서리)
+ */
+public record BoundingBox(double south, double west, double north, double east) {
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+    }
+
+    public boolean isValid() {
+        return south <= north && west <= east
+                && south >= -90 && north <= 90
+                && west >= -180 && east <= 180;
+    }
+}
@@ -0,0 +1,114 @@
+package com.budongsan.api.domain.property.map;
+
+import com.budongsan.api.domain.property.dto.PropertyMapMarker;
+import com.budongsan.api.domain.property.dto.PropertyMapResponse;
+import com.budongsan.api.domain.property.event.PropertyChangeListener;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 팀별 매물 지도 인덱스 (서버 메모리)
+ *
+ * - 팀 지도를 처음 조회할 때 좌표가 있는 매물을 한 번 읽어 TeamGridIndex 생성
+ * - 이후 매물 변경은 PropertyChangedEvent로 건별 반영 (엑셀 가져오기는 팀 인덱스를 버리고 다시 적재)
+ * - 오래 조회되지 않은 팀은 제거 (max-teams / idle-ttl)
+ *
+ * 줌 레벨별 응답:
+ * - cluster-max-zoom 이하 → 클러스터 (화면에서 약 CLUSTER_PIXELS 픽셀 간격으로 묶음)
+ * - 그보다 확대 → 마커, 단 max-markers를 넘으면 클러스터로 대체
+ */
+@Component
+public class PropertyMapIndex implements PropertyChangeListener {
+
+    // 클러스터 간격 (화면 픽셀), 웹 메르카토르 타일 크기
+    private static final int CLUSTER_PIXELS = 60;
+    private static final int TILE_SIZE = 256;
+
+    private final PropertyRepository propertyRepository;
+    private final Cache<Long, TeamGridIndex> teams;
+    private final int clusterMaxZoom;
+    private final int maxMarkers;
+
+    public PropertyMapIndex(
+            PropertyRepository propertyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${property.map.max-teams:1000}") long maxTeams,
+            @Value("${property.map.idle-ttl:1h}") Duration idleTtl,
+            @Value("${property.map.cluster-max-zoom:14}") int clusterMaxZoom,
+            @Value("${property.map.max-markers:2000}") int maxMarkers
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.clusterMaxZoom = clusterMaxZoom;
+        this.maxMarkers = maxMarkers;
+        this.teams = Caffeine.newBuilder()
+                .maximumSize(maxTeams)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, teams, "property.map.teams");
+    }
+
+    /**
+     * 화면 영역 조회
+     */
+    public PropertyMapResponse query(Long teamId, BoundingBox box, int zoom) {
+        TeamGridIndex index = teams.get(teamId, this::load);
+
+        if (zoom > clusterMaxZoom) {
+            List<PropertyMapMarker> markers = index.markers(box, maxMarkers);
+            if (markers != null) {
+                return PropertyMapResponse.ofMarkers(markers);
+            }
+            zoom = clusterMaxZoom; // 마커가 너무 많으면 클러스터로
+        }
+        return PropertyMapResponse.ofClusters(index.clusters(box, clusterDegrees(zoom)));
+    }
+
+    /**
+     * 매물 변경 반영 (인덱스가 적재된 팀만)
+     *
+     * 마커 값은 이벤트에 실려 옴 → 서버마다 DB를 다시 조회하지 않음
+     * computeIfPresent: 같은 팀을 적재하는 중이면 적재가 끝난 인덱스에 반영
+     * (getIfPresent는 적재 중에 null → 커밋 전 데이터로 만든 인덱스에 변경이 빠진 채 남음)
+     */
+    @Override
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.type() == PropertyChangedEvent.Type.BULK_IMPORTED) {
+            teams.invalidate(event.teamId()); // 다음 조회 때 다시 적재
+            return;
+        }
+
+        teams.asMap().computeIfPresent(event.teamId(), (teamId, index) -> {
+            PropertyChangedEvent.MapMarker marker = event.marker();
+            if (marker != null) {
+                index.upsert(new PropertyMapMarker(event.propertyId(), marker.latitude(), marker.longitude(),
+                        marker.dealType(), marker.status(), marker.price()));
+            } else {
+                index.remove(event.propertyId()); // 좌표가 지워진 매물
+            }
+            return index;
+        });
+    }
+
+    private TeamGridIndex load(Long teamId) {
+        return new TeamGridIndex(propertyRepository.findMapMarkers(teamId));
+    }
+
+    /**
+     * 줌 레벨에서 CLUSTER_PIXELS 픽셀에 해당하는 경도 폭 (격자 칸보다 작아지지 않게)
+     * 줌 z의 세계 전체 폭 = 256 * 2^z 픽셀 = 360도
+     */
+    private static double clusterDegrees(int zoom) {
+        double degrees = 360.0 * CLUSTER_PIXELS / (TILE_SIZE * Math.pow(2, zoom));
+        return Math.max(degrees, TeamGridIndex.CELL_DEGREES);
+    }
+}
@@ -0,0 +1,209 @@
+package com.budongsan.api.domain.property.map;
+
+import com.budongsan.api.domain.property.dto.PropertyMapCluster;
+import com.budongsan.api.domain.property.dto.PropertyMapMarker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 팀 1개의 매물 좌표 격자(grid) 인덱스
+ *
+ * 위도/경도를 CELL_DEGREES(약 1km) 간격 격자로 나눠 칸마다 마커 목록 + 좌표 합계를 보관
+ * - 화면 영역 조회: 영역과 겹치는 칸만 확인 (B-tree 두 컬럼 범위 스캔 대신 해시 조회)
+ * - 클러스터: 마커가 아니라 칸 단위 합계를 묶음 → 매물 수가 아니라 칸 수에 비례
+ *
+ * 조회는 읽기 락(동시 실행), 매물 변경은 쓰기 락
+ */
+class TeamGridIndex {
+
+    static final double CELL_DEGREES = 0.01;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PropertyMapMarker> markersById = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /** 격자 한 칸 */
+    private static final class Cell {
+        final List<PropertyMapMarker> markers = new ArrayList<>();
+        double latitudeSum;
+        double longitudeSum;
+
+        void add(PropertyMapMarker marker) {
+            markers.add(marker);
+            latitudeSum += marker.latitude();
+            longitudeSum += marker.longitude();
+        }
+
+        void remove(PropertyMapMarker marker) {
+            if (markers.remove(marker)) {
+                latitudeSum -= marker.latitude();
+                longitudeSum -= marker.longitude();
+            }
+        }
+    }
+
+    TeamGridIndex(List<PropertyMapMarker> markers) {
+        markers.forEach(this::put);
+    }
+
+    /** 추가 또는 위치/값 변경 */
+    void upsert(PropertyMapMarker marker) {
+        lock.writeLock().lock();
+        try {
+            removeById(marker.id());
+            put(marker);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 좌표가 지워졌거나 매물이 없어진 경우 */
+    void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeById(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 마커 (limit 초과 시 null → 호출 측에서 클러스터로 대체)
+     */
+    List<PropertyMapMarker> markers(BoundingBox box, int limit) {
+        lock.readLock().lock();
+        try {
+            List<PropertyMapMarker> result = new ArrayList<>();
+            boolean[] overflow = {false};
+            forEachCell(box, cell -> {
+                if (overflow[0]) {
+                    return;
+                }
+                for (PropertyMapMarker marker : cell.markers) {
+                    if (box.contains(marker.latitude(), marker.longitude())) {
+                        if (result.size() == limit) {
+                            overflow[0] = true;
+                            return;
+                        }
+                        result.add(marker);
+                    }
+                }
+            });
+            return overflow[0] ? null : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 매물을 clusterDegrees 간격으로 묶음
+     * 칸의 중심(평균 좌표)이 영역 안에 있는 칸만 포함
+     */
+    List<PropertyMapCluster> clusters(BoundingBox box, double clusterDegrees) {
+        lock.readLock().lock();
+        try {
+            // key → {위도 합, 경도 합, 개수}
+            Map<Long, double[]> groups = new HashMap<>();
+            forEachCell(box, cell -> {
+                int count = cell.markers.size();
+                double centerLat = cell.latitudeSum / count;
+                double centerLng = cell.longitudeSum / count;
+                if (!box.contains(centerLat, centerLng)) {
+                    return;
+                }
+                long key = key(index(centerLat + 90, clusterDegrees), index(centerLng + 180, clusterDegrees));
+                double[] group = groups.computeIfAbsent(key, k -> new double[3]);
+                group[0] += cell.latitudeSum;
+                group[1] += cell.longitudeSum;
+                group[2] += count;
+            });
+
+            List<PropertyMapCluster> result = new ArrayList<>(groups.size());
+            for (double[] group : groups.values()) {
+                result.add(new PropertyMapCluster(group[0] / group[2], group[1] / group[2], (int) group[2]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return markersById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영역과 겹치는 (비어있지 않은) 칸 순회
+     * 영역의 칸 수가 실제 채워진 칸 수보다 많으면 (많이 축소한 화면) 채워진 칸 전체를 훑는 쪽이 빠름
+     */
+    private void forEachCell(BoundingBox box, Consumer<Cell> action) {
+        int rowFrom = index(box.south() + 90, CELL_DEGREES);
+        int rowTo = index(box.north() + 90, CELL_DEGREES);
+        int colFrom = index(box.west() + 180, CELL_DEGREES);
+        int colTo = index(box.east() + 180, CELL_DEGREES);
+
+        long span = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+        if (span <= cells.size()) {
+            for (int row = rowFrom; row <= rowTo; row++) {
+                for (int col = colFrom; col <= colTo; col++) {
+                    Cell cell = cells.get(key(row, col));
+                    if (cell != null) {
+                        action.accept(cell);
+                    }
+                }
+            }
+            return;
+        }
+
+        cells.forEach((key, cell) -> {
+            int row = (int) (key >> 32);
+            int col = (int) (long) key;
+            if (row >= rowFrom && row <= rowTo && col >= colFrom && col <= colTo) {
+                action.accept(cell);
+            }
+        });
+    }
+
+    private void put(PropertyMapMarker marker) {
+        markersById.put(marker.id(), marker);
+        cells.computeIfAbsent(cellKey(marker), k -> new Cell()).add(marker);
+    }
+
+    private void removeById(Long propertyId) {
+        PropertyMapMarker old = markersById.remove(propertyId);
+        if (old == null) {
+            return;
+        }
+        long key = cellKey(old);
+        Cell cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(old);
+            if (cell.markers.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static long cellKey(PropertyMapMarker marker) {
+        return key(index(marker.latitude() + 90, CELL_DEGREES), index(marker.longitude() + 180, CELL_DEGREES));
+    }
+
+    private static int index(double offsetDegrees, double size) {
+        return (int) Math.floor(offsetDegrees / size);
+    }
+
+    // (행, 열) → long 하나 (상위 32비트 = 행, 하위 32비트 = 열)
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,66 @@
+package com.budongsan.api.domain.property.photo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 허용 사진 형식 (파일 앞부분 매직 바이트로 판별)
+ *
+ * 클라이언트가 보낸 Content-Type은 믿지 않음
+ * → 이미지가 아닌 파일(HTML 등)을 image/jpeg로 올려 그대로 내려받게 하는 것을 막음
+ * → 저장/응답 Content-Type은 여기서 판별한 값만 사용
+ */
+public enum PhotoFormat {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    WEBP("image/webp", ".webp");
+
+    // 판별에 필요한 앞부분 길이 (WEBP: "RIFF" + 크기 4바이트 + "WEBP")
+    static final int HEADER_LENGTH = 12;
+
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] RIFF = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP_MAGIC = {'W', 'E', 'B', 'P'};
+
+    private final String contentType;
+    private final String extension;
+
+    PhotoFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() { return contentType; }
+    public String getExtension() { return extension; }
+
+    /**
+     * 스트림 앞부분으로 형식 판별 (스트림은 호출하는 쪽에서 닫음)
+     *
+     * @return 허용 형식이 아니면 empty
+     */
+    public static Optional<PhotoFormat> detect(InputStream input) throws IOException {
+        return detect(input.readNBytes(HEADER_LENGTH));
+    }
+
+    static Optional<PhotoFormat> detect(byte[] header) {
+        if (startsWith(header, 0, JPEG_MAGIC)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, 0, PNG_MAGIC)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP_MAGIC)) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] magic) {
+        return header.length >= offset + magic.length
+                && Arrays.equals(header, offset, offset + magic.length, magic, 0, magic.length);
+    }
+}
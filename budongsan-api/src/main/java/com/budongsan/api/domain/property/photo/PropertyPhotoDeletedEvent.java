@@ -0,0 +1,6 @@
+package com.budongsan.api.domain.property.photo;
+
+/**
+ * 사진 삭제 이벤트 → 커밋 후 파일 삭제
+ */
+public record PropertyPhotoDeletedEvent(String storedName) {}
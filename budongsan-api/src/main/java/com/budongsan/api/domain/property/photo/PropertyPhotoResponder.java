@@ -0,0 +1,159 @@
+package com.budongsan.api.domain.property.photo;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사진 파일 응답 (Range 요청 + 캐시 헤더 + 커널 복사)
+ *
+ * 전송:
+ * - Tomcat sendfile 지원 시 → 파일 경로/범위만 넘기고 커넥터가 커널에서 바로 소켓으로 복사 (힙/사용자 공간 복사 없음)
+ * - 미지원 시 → FileChannel.transferTo로 응답 스트림에 범위만큼 복사
+ *
+ * Range: 단일 범위만 지원 ("bytes=0-1023", "bytes=1024-", "bytes=-500")
+ * 여러 범위 요청은 전체 파일(200)로 응답 (RFC 9110에서 허용)
+ *
+ * 캐시: 저장 파일명이 UUID라 내용이 바뀌지 않음 → 1년 + immutable, ETag = 파일명
+ * 로그인한 팀만 볼 수 있는 파일이라 공유 캐시(CDN/프록시)에는 저장하지 않도록 private
+ *
+ * X-Content-Type-Options: nosniff → 브라우저가 내용을 보고 HTML 등으로 해석하지 않음 (Content-Type은 업로드 시 판별한 값)
+ */
+@Component
+public class PropertyPhotoResponder {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private static final String IMMUTABLE_CACHE = "private, max-age=" + Duration.ofDays(365).toSeconds() + ", immutable";
+    private static final String SHORT_CACHE = "private, max-age=60";
+    private static final String NOSNIFF_HEADER = "X-Content-Type-Options";
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.servlets.DefaultServlet과 같은 방식)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * @param etag      내용이 바뀌지 않는 식별자 (저장 파일명)
+     * @param immutable true면 장기 캐시 (썸네일이 아직 없어 원본으로 대신 응답할 때는 false)
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      Path file, String contentType, String etag, boolean immutable) throws IOException {
+        // 파일부터 열어봄 → 없으면 캐시 헤더를 붙이기 전에 404 (에러 응답이 장기 캐시되지 않도록)
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.PHOTO_NOT_FOUND);
+        }
+
+        try (channel) {
+            String quotedEtag = "\"" + etag + "\"";
+            response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE_CACHE : SHORT_CACHE);
+            response.setHeader(HttpHeaders.ETAG, quotedEtag);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(NOSNIFF_HEADER, "nosniff");
+
+            if (quotedEtag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            long length = channel.size();
+            long start = 0;
+            long end = length - 1;
+
+            String range = request.getHeader(HttpHeaders.RANGE);
+            // If-Range가 현재 ETag와 다르면 범위 무시하고 전체 응답
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && (ifRange == null || ifRange.equals(quotedEtag))) {
+                Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+                if (matcher.matches()) {
+                    long[] bounds = resolveRange(matcher.group(1), matcher.group(2), length);
+                    if (bounds == null) {
+                        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        return;
+                    }
+                    start = bounds[0];
+                    end = bounds[1];
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            }
+
+            long count = end - start + 1;
+            response.setContentType(contentType);
+            response.setContentLengthLong(count);
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1); // end는 미포함
+                return;
+            }
+
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break; // 파일이 중간에 줄어든 경우
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Range 경계 계산 → {start, end(포함)}, 만족할 수 없으면 null
+     * 숫자가 long 범위를 넘으면 아주 큰 값으로 봄 (끝 위치 / 뒤에서 N바이트는 파일 크기로 잘림)
+     */
+    static long[] resolveRange(String first, String last, long length) {
+        if (first.isEmpty() && last.isEmpty()) {
+            return null;
+        }
+        if (first.isEmpty()) {
+            // 뒤에서 N바이트
+            long suffix = parseBound(last);
+            if (suffix == 0 || length == 0) {
+                return null;
+            }
+            return new long[]{Math.max(0, length - suffix), length - 1};
+        }
+        long start = parseBound(first);
+        long end = last.isEmpty() ? length - 1 : Math.min(parseBound(last), length - 1);
+        if (start >= length || start > end) {
+            return null;
+        }
+        return new long[]{start, end};
+    }
+
+    // 정규식으로 숫자만 들어옴 → 실패는 자릿수 초과뿐
+    private static long parseBound(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.budongsan.api.domain.property.photo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * 매물 사진 파일 저장소 (로컬 디스크)
+ *
+ * 디렉토리 구성 (파일명 앞 4글자로 2단계 분산 → 한 디렉토리에 파일이 몰리지 않음):
+ * {photo-dir}/originals/3f/2a/3f2a...c1.jpg
+ * {photo-dir}/thumbnails/3f/2a/3f2a...c1.jpg
+ *
+ * 업로드는 컨테이너가 이미 디스크에 받아둔 파일(multipart 임시 파일)을 그대로 옮김
+ * - MultipartFile.transferTo(File) → Tomcat Part.write → 같은 파일 시스템이면 rename (다시 복사하지 않음)
+ *   (transferTo(Path)는 스트림 복사라 쓰지 않음, 다른 파일 시스템이면 Tomcat이 복사로 대체)
+ * - 임시 파일로 옮긴 뒤 원자적 이동 → 읽는 쪽은 쓰다 만 파일을 보지 않음
+ *
+ * 여러 서버로 띄우면 photo-dir은 공유 디스크(NFS 등)여야 함
+ */
+@Slf4j
+@Component
+public class PropertyPhotoStorage {
+
+    private final Path originalDir;
+    private final Path thumbnailDir;
+    private final Path tempDir;
+
+    public PropertyPhotoStorage(
+            @Value("${property.photo.dir:${java.io.tmpdir}/budongsan-photos}") Path photoDir
+    ) throws IOException {
+        this.originalDir = Files.createDirectories(photoDir.resolve("originals"));
+        this.thumbnailDir = Files.createDirectories(photoDir.resolve("thumbnails"));
+        this.tempDir = Files.createDirectories(photoDir.resolve("tmp"));
+    }
+
+    /**
+     * 업로드 파일 저장
+     *
+     * @param extension 확장자 (ex: ".jpg")
+     * @return 저장 파일명
+     */
+    public String store(MultipartFile file, String extension) throws IOException {
+        String storedName = UUID.randomUUID().toString().replace("-", "") + extension;
+        Path temp = Files.createTempFile(tempDir, "upload-", extension);
+        try {
+            file.transferTo(temp.toFile());
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Path destination = originalPath(storedName);
+        Files.createDirectories(destination.getParent());
+        Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE);
+        return storedName;
+    }
+
+    public Path originalPath(String storedName) {
+        return shard(originalDir, storedName);
+    }
+
+    public Path thumbnailPath(String storedName) {
+        return shard(thumbnailDir, storedName);
+    }
+
+    // 썸네일 쓰기용 임시 파일 (다 쓴 뒤 moveIntoPlace로 이동)
+    public Path createTempFile(String suffix) throws IOException {
+        return Files.createTempFile(tempDir, "thumb-", suffix);
+    }
+
+    public void moveIntoPlace(Path temp, Path destination) throws IOException {
+        Files.createDirectories(destination.getParent());
+        Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 사진 삭제 커밋 후 → 파일 삭제 (롤백되면 파일은 그대로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPhotoDeleted(PropertyPhotoDeletedEvent event) {
+        delete(event.storedName());
+    }
+
+    /**
+     * 원본 + 썸네일 삭제 (없으면 무시)
+     */
+    public void delete(String storedName) {
+        deleteQuietly(originalPath(storedName));
+        deleteQuietly(thumbnailPath(storedName));
+    }
+
+    private static Path shard(Path base, String storedName) {
+        return base.resolve(storedName.substring(0, 2))
+                .resolve(storedName.substring(2, 4))
+                .resolve(storedName);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("사진 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
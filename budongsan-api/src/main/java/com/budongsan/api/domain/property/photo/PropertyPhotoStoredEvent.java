@@ -0,0 +1,6 @@
+package com.budongsan.api.domain.property.photo;
+
+/**
+ * 사진 저장 이벤트 → 커밋 후 썸네일 생성
+ */
+public record PropertyPhotoStoredEvent(Long photoId, String storedName) {}
@@ -0,0 +1,211 @@
+package com.budongsan.api.domain.property.photo;
+
+import com.budongsan.api.domain.property.repository.PropertyPhotoRepository;
+import com.budongsan.core.domain.property.PropertyPhoto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매물 사진 썸네일 비동기 생성
+ *
+ * 이미지 디코딩/축소는 CPU와 메모리를 많이 씀 → 업로드 요청 스레드에서 하지 않음
+ * → 사진 저장이 커밋된 뒤 전용 스레드풀(크기 제한 대기열)에서 생성
+ * → 대기열이 꽉 차면 건너뜀 (썸네일 요청은 원본으로 응답, 업로드는 항상 빠르게 끝남)
+ *
+ * 디코딩 (압축 폭탄 방지):
+ * ImageIO.read는 헤더의 가로×세로만큼 픽셀 버퍼를 바로 잡음 → 20MB 파일도 수만×수만 픽셀이면 힙 초과
+ * → 헤더에서 크기만 먼저 읽고 max-pixels를 넘으면 건너뜀 (썸네일 없이 원본 사용)
+ * → 썸네일 크기의 2배 정도만 남도록 건너뛰며 읽음 (source subsampling, 원본 크기로 디코딩하지 않음)
+ *
+ * 메트릭:
+ * - property.photo.thumbnail           : 생성 소요 시간
+ * - property.photo.thumbnail.queue     : 대기열 길이
+ * - property.photo.thumbnail.rejected  : 대기열 초과로 건너뛴 수
+ * - property.photo.thumbnail.oversized : max-pixels 초과로 건너뛴 수
+ */
+@Slf4j
+@Component
+public class PropertyThumbnailGenerator {
+
+    private static final String THUMBNAIL_FORMAT = "jpg";
+
+    private final PropertyPhotoStorage storage;
+    private final PropertyPhotoRepository propertyPhotoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer thumbnailTimer;
+    private final Counter rejectedCounter;
+    private final Counter oversizedCounter;
+
+    public PropertyThumbnailGenerator(
+            PropertyPhotoStorage storage,
+            PropertyPhotoRepository propertyPhotoRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${property.photo.thumbnail.size:320}") int maxSize,
+            @Value("${property.photo.thumbnail.threads:2}") int threads,
+            @Value("${property.photo.thumbnail.queue-capacity:200}") int queueCapacity,
+            @Value("${property.photo.thumbnail.max-pixels:50000000}") long maxPixels
+    ) {
+        this.storage = storage;
+        this.propertyPhotoRepository = propertyPhotoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThumbnailThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 꽉 차면 RejectedExecutionException
+        );
+
+        this.thumbnailTimer = Timer.builder("property.photo.thumbnail")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("property.photo.thumbnail.rejected").register(meterRegistry);
+        this.oversizedCounter = Counter.builder("property.photo.thumbnail.oversized").register(meterRegistry);
+        Gauge.builder("property.photo.thumbnail.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * 사진 저장 커밋 후 → 썸네일 생성 예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPhotoStored(PropertyPhotoStoredEvent event) {
+        try {
+            executor.execute(() -> thumbnailTimer.record(() -> generate(event.photoId(), event.storedName())));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("썸네일 대기열 초과로 건너뜀: 사진 {}", event.photoId());
+        }
+    }
+
+    private void generate(Long photoId, String storedName) {
+        Path temp = null;
+        try {
+            BufferedImage original = decode(photoId, storage.originalPath(storedName));
+            if (original == null) {
+                return; // 읽지 못하는 형식 (ex: webp) 또는 너무 큰 이미지 → 썸네일 없이 원본 사용
+            }
+
+            temp = storage.createTempFile("." + THUMBNAIL_FORMAT);
+            ImageIO.write(resize(original), THUMBNAIL_FORMAT, temp.toFile());
+            storage.moveIntoPlace(temp, storage.thumbnailPath(storedName));
+            temp = null;
+
+            // 생성 중에 사진이 삭제됐으면 아무것도 하지 않음
+            transactionTemplate.executeWithoutResult(status ->
+                    propertyPhotoRepository.findById(photoId).ifPresent(PropertyPhoto::markThumbnailReady));
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: 사진 {}", photoId, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 디렉토리
+                }
+            }
+        }
+    }
+
+    /**
+     * 헤더로 크기 확인 후 축소해서 디코딩
+     *
+     * @return 읽지 못하는 형식이거나 max-pixels 초과면 null
+     */
+    private BufferedImage decode(Long photoId, Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);   // 헤더만 읽음 (픽셀 디코딩 전)
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    oversizedCounter.increment();
+                    log.warn("썸네일 건너뜀 (이미지가 너무 큼 {}x{}): 사진 {}", width, height, photoId);
+                    return null;
+                }
+
+                // 긴 변이 썸네일의 2배 이상 남는 만큼만 건너뛰며 읽음 → 축소 품질 유지 + 메모리는 step² 만큼 절약
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize가 되도록 비율 유지 축소 (이미 작으면 그대로), 투명 배경은 흰색으로
+     */
+    private BufferedImage resize(BufferedImage original) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 스레드 이름: property-thumbnail-1, property-thumbnail-2 ... (스레드 덤프에서 구분용)
+     */
+    private static class ThumbnailThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "property-thumbnail-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.core.domain.property.PropertyImportJob;
+import com.budongsan.core.domain.property.PropertyImportJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매물 엑셀 가져오기 작업 Repository
+ */
+public interface PropertyImportJobRepository extends JpaRepository<PropertyImportJob, Long> {
+
+    // 끝나지 않은 작업 (서버 재시작 후 이어서 실행)
+    List<PropertyImportJob> findByStatusIn(Collection<PropertyImportJobStatus> statuses);
+
+    // chunk 커밋용 (SELECT ... FOR UPDATE) → 같은 작업의 chunk 커밋이 서버 간에 겹치지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from PropertyImportJob j where j.id = :id")
+    Optional<PropertyImportJob> findByIdForUpdate(@Param("id") Long id);
+}
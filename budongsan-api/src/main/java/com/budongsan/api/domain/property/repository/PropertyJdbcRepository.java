@@ -0,0 +1,56 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.api.domain.property.excel.PropertyRow;
+import com.budongsan.core.domain.property.PropertyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매물 대량 저장 (JDBC batch insert)
+ *
+ * JPA saveAll은 IDENTITY 전략이라 행마다 INSERT를 따로 보내고 영속성 컨텍스트에 엔티티가 쌓임
+ * → JdbcTemplate.batchUpdate로 한 번에 전송 (reWriteBatchedInserts=true면 multi-row INSERT로 재작성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PropertyJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into property (team_id, title, deal_type, price, monthly_rent, area,
+                                  district, address, status, memo, latitude, longitude,
+                                  created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long teamId, List<PropertyRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, teamId);
+            ps.setString(2, row.title());
+            ps.setString(3, row.dealType().name());
+            ps.setLong(4, row.price());
+            if (row.monthlyRent() != null) {
+                ps.setLong(5, row.monthlyRent());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setDouble(6, row.area());
+            ps.setString(7, row.district());
+            ps.setString(8, row.address());
+            ps.setString(9, PropertyStatus.AVAILABLE.name());
+            ps.setString(10, row.memo());
+            ps.setObject(11, row.latitude(), Types.DOUBLE);
+            ps.setObject(12, row.longitude(), Types.DOUBLE);
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+    }
+}
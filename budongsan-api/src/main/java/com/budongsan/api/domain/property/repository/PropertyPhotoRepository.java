@@ -0,0 +1,22 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.core.domain.property.PropertyPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매물 사진 Repository
+ */
+public interface PropertyPhotoRepository extends JpaRepository<PropertyPhoto, Long> {
+
+    // 매물 사진 목록 (등록순)
+    List<PropertyPhoto> findByPropertyIdOrderByIdAsc(Long propertyId);
+
+    // 매물당 사진 개수 제한 확인
+    long countByPropertyId(Long propertyId);
+
+    // 다른 매물의 사진 id로 접근하지 못하도록 매물 id까지 함께 조회
+    Optional<PropertyPhoto> findByIdAndPropertyId(Long id, Long propertyId);
+}
@@ -0,0 +1,10 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.core.domain.property.Property;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 매물 Repository
+ */
+public interface PropertyRepository extends JpaRepository<Property, Long>, PropertyRepositoryCustom {
+}
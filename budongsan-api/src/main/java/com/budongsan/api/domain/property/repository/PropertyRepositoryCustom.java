@@ -0,0 +1,30 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.api.domain.property.dto.PropertyMapMarker;
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.dto.PropertySearchDocument;
+import com.budongsan.api.domain.property.dto.PropertySearchCondition;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 매물 Repository 커스텀 쿼리 (QueryDSL 구현 → PropertyRepositoryImpl)
+ */
+public interface PropertyRepositoryCustom {
+
+    // 팀 매물 동적 검색 keyset 조회 (id < cursor, id 내림차순 = 최신순, 최대 limit개)
+    List<PropertyResponse> search(Long teamId, PropertySearchCondition condition, Long cursor, int limit);
+
+    // 검색 조건에 맞는 팀 매물 전체를 DB 커서로 스트리밍 (id 내림차순, 트랜잭션 안에서 사용)
+    Stream<PropertyResponse> streamForExport(Long teamId, PropertySearchCondition condition, int fetchSize);
+
+    // 지도 인덱스 적재용: 좌표가 있는 팀 매물 전체 (마커 값만)
+    List<PropertyMapMarker> findMapMarkers(Long teamId);
+
+    // 검색 인덱스 적재용: 팀 매물 전체 텍스트
+    List<PropertySearchDocument> findSearchDocuments(Long teamId);
+
+    // id 목록으로 응답 조회 (순서는 보장하지 않음)
+    List<PropertyResponse> findResponsesByIds(Long teamId, List<Long> ids);
+}
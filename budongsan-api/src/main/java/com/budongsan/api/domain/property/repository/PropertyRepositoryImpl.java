@@ -0,0 +1,171 @@
+package com.budongsan.api.domain.property.repository;
+
+import com.budongsan.api.domain.property.dto.PropertyMapMarker;
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.dto.PropertySearchDocument;
+import com.budongsan.api.domain.property.dto.PropertySearchCondition;
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.PropertyStatus;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.budongsan.core.domain.property.QProperty.property;
+
+/**
+ * 매물 Repository QueryDSL 구현체
+ *
+ * select ... from property
+ * where team_id = ? [and deal_type = ?] [and status = ?] [and district = ?]
+ *       [and price between ? and ?] [and area between ? and ?] [and id < ?]
+ * order by id desc limit ?
+ *
+ * null인 조건은 where 절에서 빠짐 → 조건 조합마다 Property 인덱스 중 맞는 것을 옵티마이저가 선택
+ * OFFSET 대신 마지막 id 기준으로 이어서 조회 → 몇 번째 페이지든 같은 비용
+ */
+@RequiredArgsConstructor
+public class PropertyRepositoryImpl implements PropertyRepositoryCustom {
+
+    private static final PropertySearchCondition EMPTY_CONDITION =
+            new PropertySearchCondition(null, null, null, null, null, null, null);
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PropertyResponse> search(Long teamId, PropertySearchCondition condition, Long cursor, int limit) {
+        return selectResponses(teamId, condition)
+                .where(idBefore(cursor))
+                .orderBy(property.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 엑셀 내보내기용 전방향 스트림
+     * - 엔티티가 아닌 DTO 프로젝션 → 영속성 컨텍스트에 아무것도 쌓이지 않음
+     * - fetch size 힌트 → PostgreSQL 드라이버가 전체 결과를 받지 않고 커서로 fetchSize 행씩 가져옴
+     *   (트랜잭션 안에서만 동작, 호출하는 쪽에서 Stream을 닫아야 함)
+     */
+    @Override
+    public Stream<PropertyResponse> streamForExport(Long teamId, PropertySearchCondition condition, int fetchSize) {
+        return selectResponses(teamId, condition)
+                .orderBy(property.id.desc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
+
+    @Override
+    public List<PropertyMapMarker> findMapMarkers(Long teamId) {
+        return selectMapMarkers()
+                .where(property.team.id.eq(teamId))
+                .fetch();
+    }
+
+    @Override
+    public List<PropertySearchDocument> findSearchDocuments(Long teamId) {
+        return selectSearchDocuments()
+                .where(property.team.id.eq(teamId))
+                .fetch();
+    }
+
+    // team_id 조건도 함께 → 다른 팀 매물이 섞일 수 없음
+    @Override
+    public List<PropertyResponse> findResponsesByIds(Long teamId, List<Long> ids) {
+        return selectResponses(teamId, EMPTY_CONDITION)
+                .where(property.id.in(ids))
+                .fetch();
+    }
+
+    private JPAQuery<PropertySearchDocument> selectSearchDocuments() {
+        return queryFactory
+                .select(Projections.constructor(PropertySearchDocument.class,
+                        property.id,
+                        property.title,
+                        property.address,
+                        property.memo))
+                .from(property);
+    }
+
+    private JPAQuery<PropertyMapMarker> selectMapMarkers() {
+        return queryFactory
+                .select(Projections.constructor(PropertyMapMarker.class,
+                        property.id,
+                        property.latitude,
+                        property.longitude,
+                        property.dealType,
+                        property.status,
+                        property.price))
+                .from(property)
+                .where(property.latitude.isNotNull(), property.longitude.isNotNull());
+    }
+
+    private JPAQuery<PropertyResponse> selectResponses(Long teamId, PropertySearchCondition condition) {
+        return queryFactory
+                .select(Projections.constructor(PropertyResponse.class,
+                        property.id,
+                        property.team.id,   // FK 컬럼 그대로 사용 (team 조인 없음)
+                        property.title,
+                        property.dealType,
+                        property.price,
+                        property.monthlyRent,
+                        property.area,
+                        property.district,
+                        property.address,
+                        property.status,
+                        property.memo,
+                        property.latitude,
+                        property.longitude,
+                        property.updatedAt))
+                .from(property)
+                .where(
+                        property.team.id.eq(teamId),
+                        dealTypeEq(condition.dealType()),
+                        statusEq(condition.status()),
+                        districtEq(condition.district()),
+                        priceGoe(condition.minPrice()),
+                        priceLoe(condition.maxPrice()),
+                        areaGoe(condition.minArea()),
+                        areaLoe(condition.maxArea())
+                );
+    }
+
+    private BooleanExpression dealTypeEq(DealType dealType) {
+        return dealType != null ? property.dealType.eq(dealType) : null;
+    }
+
+    private BooleanExpression statusEq(PropertyStatus status) {
+        return status != null ? property.status.eq(status) : null;
+    }
+
+    private BooleanExpression districtEq(String district) {
+        return StringUtils.hasText(district) ? property.district.eq(district) : null;
+    }
+
+    private BooleanExpression priceGoe(Long minPrice) {
+        return minPrice != null ? property.price.goe(minPrice) : null;
+    }
+
+    private BooleanExpression priceLoe(Long maxPrice) {
+        return maxPrice != null ? property.price.loe(maxPrice) : null;
+    }
+
+    private BooleanExpression areaGoe(Double minArea) {
+        return minArea != null ? property.area.goe(minArea) : null;
+    }
+
+    private BooleanExpression areaLoe(Double maxArea) {
+        return maxArea != null ? property.area.loe(maxArea) : null;
+    }
+
+    // 첫 페이지(cursor 없음)면 조건 생략
+    private BooleanExpression idBefore(Long cursor) {
+        return cursor != null ? property.id.lt(cursor) : null;
+    }
+}
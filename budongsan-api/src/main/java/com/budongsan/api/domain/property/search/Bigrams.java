@@ -0,0 +1,78 @@
+package com.budongsan.api.domain.property.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 텍스트 → 바이그램(연속된 두 글자) 변환
+ *
+ * 한글은 조사/어미가 붙고 띄어쓰기가 일정하지 않아 단어 단위 색인이 잘 맞지 않음
+ * → 글자 두 개씩 잘라 색인하면 "역삼동" 안의 "역삼"처럼 단어 일부로도 찾을 수 있음
+ *
+ * - 글자/숫자가 아닌 문자(공백, 문장부호)에서 토큰을 나누고, 토큰 안에서만 바이그램 생성
+ * - 영문은 소문자로 통일
+ * - 두 글자를 int 하나로 표현 (앞 글자 << 16 | 뒤 글자) → 문자열 객체를 만들지 않음
+ */
+final class Bigrams {
+
+    private Bigrams() {}
+
+    /**
+     * 텍스트의 모든 바이그램 (중복 포함)
+     */
+    static void forEach(String text, IntConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+        char prev = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                prev = 0; // 토큰 경계
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            if (prev != 0) {
+                consumer.accept(key(prev, c));
+            }
+            prev = c;
+        }
+    }
+
+    /**
+     * 검색어 → 토큰 목록 (두 글자 이상만, 한 글자 토큰은 바이그램이 없어 제외)
+     * ex) "역삼 래미안 84" → ["역삼", "래미안", "84"]
+     */
+    static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= query.length(); i++) {
+            char c = i < query.length() ? query.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+                continue;
+            }
+            if (current.length() >= 2) {
+                terms.add(current.toString());
+            }
+            current.setLength(0);
+        }
+        return terms;
+    }
+
+    /**
+     * 토큰 하나의 바이그램 (중복 제거)
+     */
+    static int[] distinct(String term) {
+        return IntStream.range(0, term.length() - 1)
+                .map(i -> key(term.charAt(i), term.charAt(i + 1)))
+                .distinct()
+                .toArray();
+    }
+
+    private static int key(char first, char second) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,94 @@
+package com.budongsan.api.domain.property.search;
+
+import com.budongsan.api.domain.property.dto.PropertySearchDocument;
+import com.budongsan.api.domain.property.event.PropertyChangeListener;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 팀별 매물 텍스트 검색 인덱스 (서버 메모리, 바이그램 역색인)
+ *
+ * LIKE '%역삼%' 은 인덱스를 못 타서 팀 매물 전체를 훑음
+ * → 제목 / 주소 / 메모를 바이그램으로 색인해두고 검색어의 바이그램 포스팅 목록만 교집합
+ *
+ * - 팀 검색을 처음 할 때 팀 매물 텍스트를 한 번 읽어 TeamSearchIndex 생성
+ * - 매물 등록/수정은 PropertyChangedEvent에 실린 텍스트로 건별 반영 (서버마다 DB를 다시 읽지 않음, 상태 변경은 무시)
+ * - 엑셀 가져오기 / 삭제 표시 누적 시 팀 인덱스를 버리고 다음 검색 때 다시 적재
+ * - 오래 검색되지 않은 팀은 제거 (max-teams / idle-ttl)
+ */
+@Component
+public class PropertySearchIndex implements PropertyChangeListener {
+
+    private final PropertyRepository propertyRepository;
+    private final Cache<Long, TeamSearchIndex> teams;
+
+    public PropertySearchIndex(
+            PropertyRepository propertyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${property.search.max-teams:200}") long maxTeams,
+            @Value("${property.search.idle-ttl:1h}") Duration idleTtl
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.teams = Caffeine.newBuilder()
+                .maximumSize(maxTeams)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, teams, "property.search.teams");
+    }
+
+    /**
+     * 관련도 순 매물 id (최대 limit개)
+     */
+    public List<Long> search(Long teamId, String query, int limit) {
+        List<String> terms = Bigrams.terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return teams.get(teamId, this::load).search(terms, limit).stream()
+                .map(TeamSearchIndex.Hit::propertyId)
+                .toList();
+    }
+
+    @Override
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        switch (event.type()) {
+            case BULK_IMPORTED -> teams.invalidate(event.teamId());
+            case CREATED, UPDATED -> {
+                TeamSearchIndex index = teams.getIfPresent(event.teamId());
+                if (index == null) {
+                    // 적재 중이면 커밋 전 텍스트로 만든 인덱스일 수 있음 → 적재가 끝나길 기다렸다가 버림
+                    // (적재된 적 없는 팀이면 아무 일도 없음, 다음 검색 때 커밋된 데이터로 적재)
+                    teams.invalidate(event.teamId());
+                    return;
+                }
+                PropertyChangedEvent.SearchText text = event.text();
+                if (text == null) {
+                    // 텍스트 없이 온 메시지 (이전 버전 서버) → 다음 검색 때 다시 적재
+                    teams.invalidate(event.teamId());
+                    return;
+                }
+                index.upsert(new PropertySearchDocument(event.propertyId(), text.title(), text.address(), text.memo()));
+                if (index.needsRebuild()) {
+                    teams.invalidate(event.teamId());
+                }
+            }
+            case STATUS_CHANGED -> {
+                // 텍스트 변화 없음
+            }
+        }
+    }
+
+    private TeamSearchIndex load(Long teamId) {
+        return new TeamSearchIndex(propertyRepository.findSearchDocuments(teamId));
+    }
+}
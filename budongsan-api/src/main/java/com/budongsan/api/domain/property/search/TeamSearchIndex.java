@@ -0,0 +1,208 @@
+package com.budongsan.api.domain.property.search;
+
+import com.budongsan.api.domain.property.dto.PropertySearchDocument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 1개의 바이그램 역색인
+ *
+ * 바이그램 → 포스팅 목록 (int 배열, 원소 하나 = 문서 번호 << 3 | 필드 비트)
+ * - 문서 번호: 색인에 들어간 순서 (매물 id가 아님, ids[번호] = 매물 id)
+ * - 필드 비트: 그 바이그램이 나온 필드 (제목 / 주소 / 메모)
+ *
+ * 매물 수정 시 기존 번호는 삭제 표시만 하고 새 번호로 다시 색인 (포스팅 목록을 고치지 않음)
+ * → 삭제 표시가 많아지면 needsRebuild() → 호출 측에서 팀 인덱스를 다시 적재
+ *
+ * 조회는 읽기 락(동시 실행), 매물 변경은 쓰기 락
+ */
+class TeamSearchIndex {
+
+    static final int TITLE = 1;
+    static final int ADDRESS = 1 << 1;
+    static final int MEMO = 1 << 2;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+    // 메모는 자유 입력이라 길 수 있음 → 앞부분만 색인 (메모리 상한)
+    private static final int MAX_MEMO_LENGTH = 300;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] ids = new long[1024];
+    private int nextOrdinal;
+
+    /** 문서 번호 + 필드 비트 목록 (늘어나는 int 배열) */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /** 검색 결과 1건 */
+    record Hit(long propertyId, int matchedTerms, int score) {}
+
+    TeamSearchIndex(List<PropertySearchDocument> documents) {
+        documents.forEach(this::add);
+    }
+
+    void upsert(PropertySearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(document.id());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 삭제 표시가 살아있는 문서만큼 쌓이면 재적재 */
+    boolean needsRebuild() {
+        lock.readLock().lock();
+        try {
+            int dead = deleted.cardinality();
+            return dead > 1000 && dead > ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (검색어 토큰 중 하나라도 맞는 문서, 관련도 순 상위 limit개)
+     *
+     * 토큰 하나가 맞는다 = 토큰의 모든 바이그램이 같은 필드에 있음
+     * 정렬: 맞은 토큰 수 → 필드 가중치 합 (제목 3, 주소 2, 메모 1) → 최신 매물
+     */
+    List<Hit> search(List<String> terms, int limit) {
+        lock.readLock().lock();
+        try {
+            // 문서 번호 → {맞은 토큰 수, 점수}
+            Map<Integer, int[]> scores = new HashMap<>();
+            for (String term : terms) {
+                matchTerm(term).forEach((ordinal, fields) -> {
+                    int[] score = scores.computeIfAbsent(ordinal, k -> new int[2]);
+                    score[0]++;
+                    score[1] += weight(fields);
+                });
+            }
+
+            Comparator<Hit> ranking = Comparator.comparingInt(Hit::matchedTerms)
+                    .thenComparingInt(Hit::score)
+                    .thenComparingLong(Hit::propertyId);
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking); // 가장 낮은 순위가 head
+            scores.forEach((ordinal, score) -> {
+                top.add(new Hit(ids[ordinal], score[0], score[1]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            List<Hit> result = new ArrayList<>(top);
+            result.sort(ranking.reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰의 바이그램이 모두 들어있는 문서 → 바이그램이 모두 나온 필드 비트
+     * 포스팅 목록이 가장 짧은 바이그램부터 교집합
+     */
+    private Map<Integer, Integer> matchTerm(String term) {
+        int[] keys = Bigrams.distinct(term);
+        List<IntList> lists = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            IntList list = postings.get(key);
+            if (list == null) {
+                return Map.of(); // 없는 바이그램이 있으면 맞는 문서 없음
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Map<Integer, Integer> matched = new HashMap<>();
+        IntList first = lists.get(0);
+        for (int i = 0; i < first.size; i++) {
+            int ordinal = first.values[i] >>> FIELD_BITS;
+            if (!deleted.get(ordinal)) {
+                matched.put(ordinal, first.values[i] & FIELD_MASK);
+            }
+        }
+        for (int l = 1; l < lists.size() && !matched.isEmpty(); l++) {
+            IntList list = lists.get(l);
+            Map<Integer, Integer> next = new HashMap<>();
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.values[i] >>> FIELD_BITS;
+                Integer fields = matched.get(ordinal);
+                if (fields != null) {
+                    next.put(ordinal, fields & list.values[i]);
+                }
+            }
+            matched = next;
+        }
+
+        matched.values().removeIf(fields -> (fields & FIELD_MASK) == 0); // 바이그램이 여러 필드에 흩어진 경우 제외
+        return matched;
+    }
+
+    private void add(PropertySearchDocument document) {
+        int ordinal = nextOrdinal++;
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[ordinal] = document.id();
+        ordinalById.put(document.id(), ordinal);
+
+        // 문서 안에서 바이그램별 필드 비트를 모은 뒤 포스팅에 한 번씩만 추가
+        Map<Integer, Integer> fieldsByKey = new HashMap<>();
+        Bigrams.forEach(document.title(), key -> fieldsByKey.merge(key, TITLE, (a, b) -> a | b));
+        Bigrams.forEach(document.address(), key -> fieldsByKey.merge(key, ADDRESS, (a, b) -> a | b));
+        Bigrams.forEach(truncate(document.memo()), key -> fieldsByKey.merge(key, MEMO, (a, b) -> a | b));
+
+        fieldsByKey.forEach((key, fields) ->
+                postings.computeIfAbsent(key, k -> new IntList()).add((ordinal << FIELD_BITS) | fields));
+    }
+
+    private void markDeleted(Long propertyId) {
+        Integer ordinal = ordinalById.remove(propertyId);
+        if (ordinal != null) {
+            deleted.set(ordinal);
+        }
+    }
+
+    private static int weight(int fields) {
+        return ((fields & TITLE) != 0 ? 3 : 0)
+                + ((fields & ADDRESS) != 0 ? 2 : 0)
+                + ((fields & MEMO) != 0 ? 1 : 0);
+    }
+
+    private static String truncate(String memo) {
+        return memo != null && memo.length() > MAX_MEMO_LENGTH ? memo.substring(0, MAX_MEMO_LENGTH) : memo;
+    }
+}
@@ -0,0 +1,72 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.dto.PropertySearchCondition;
+import com.budongsan.api.domain.property.excel.PropertyExcelWriter;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.response.ApiResponseStreamWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * 매물 전체 내보내기 (엑셀 / JSON)
+ *
+ * DB 커서 스트림 → 엑셀 행(또는 JSON 요소) → 응답 스트림 을 한 번에 흘려보냄
+ * (전체 결과를 List로 모으지 않음, 엔티티도 만들지 않음)
+ *
+ * 커서는 트랜잭션 안에서만 유지되므로 응답을 다 쓸 때까지 읽기 전용 트랜잭션을 잡고 있음
+ */
+@Service
+public class PropertyExportService {
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyExcelWriter propertyExcelWriter;
+    private final TeamAccessResolver teamAccessResolver;
+    private final ApiResponseStreamWriter apiResponseStreamWriter;
+    private final int fetchSize;
+
+    public PropertyExportService(
+            PropertyRepository propertyRepository,
+            PropertyExcelWriter propertyExcelWriter,
+            TeamAccessResolver teamAccessResolver,
+            ApiResponseStreamWriter apiResponseStreamWriter,
+            @Value("${property.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.propertyExcelWriter = propertyExcelWriter;
+        this.teamAccessResolver = teamAccessResolver;
+        this.apiResponseStreamWriter = apiResponseStreamWriter;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 내보낼 팀 결정 + 권한 확인 (응답을 쓰기 전에 호출 → 실패하면 일반 에러 응답)
+     */
+    public Long resolveTeamId(LoginMember loginMember, Long teamId) {
+        return teamAccessResolver.resolveTeamId(loginMember, teamId);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportExcel(Long teamId, PropertySearchCondition condition, OutputStream out) throws IOException {
+        try (Stream<PropertyResponse> rows = propertyRepository.streamForExport(teamId, condition, fetchSize)) {
+            propertyExcelWriter.write(rows, out);
+        }
+    }
+
+    /**
+     * 검색 조건에 맞는 팀 매물 전체를 JSON 목록으로 (응답 모양은 ApiResponse와 같음)
+     */
+    @Transactional(readOnly = true)
+    public void exportJson(Long teamId, PropertySearchCondition condition, OutputStream out) throws IOException {
+        try (Stream<PropertyResponse> rows = propertyRepository.streamForExport(teamId, condition, fetchSize)) {
+            apiResponseStreamWriter.writeSuccess(out, "요청이 성공적으로 처리되었습니다.", rows);
+        }
+    }
+}
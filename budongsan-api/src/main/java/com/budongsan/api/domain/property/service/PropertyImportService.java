@@ -0,0 +1,143 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.dto.PropertyImportJobResponse;
+import com.budongsan.api.domain.property.importjob.PropertyImportJobRunner;
+import com.budongsan.api.domain.property.importjob.PropertyImportProgressStore;
+import com.budongsan.api.domain.property.importjob.PropertyImportProgressStreamer;
+import com.budongsan.api.domain.property.repository.PropertyImportJobRepository;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.domain.property.PropertyImportJob;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매물 엑셀 가져오기 (비동기 작업)
+ *
+ * 업로드 요청은 파일을 job-dir에 저장하고 작업 id만 바로 돌려줌 (HTTP 요청을 오래 잡지 않음)
+ * 실제 가져오기는 PropertyImportJobRunner가 chunk 단위로 실행
+ * 진행 상황은 Redis에서 조회 (폴링 또는 SSE 스트림), Redis 장애/만료 시 DB 원장 기준
+ */
+@Service
+public class PropertyImportService {
+
+    private static final String XLSX_EXTENSION = ".xlsx";
+
+    private final PropertyImportJobRepository propertyImportJobRepository;
+    private final PropertyImportJobRunner propertyImportJobRunner;
+    private final PropertyImportProgressStore progressStore;
+    private final PropertyImportProgressStreamer progressStreamer;
+    private final TeamAccessResolver teamAccessResolver;
+    private final Path jobDir;
+
+    public PropertyImportService(
+            PropertyImportJobRepository propertyImportJobRepository,
+            PropertyImportJobRunner propertyImportJobRunner,
+            PropertyImportProgressStore progressStore,
+            PropertyImportProgressStreamer progressStreamer,
+            TeamAccessResolver teamAccessResolver,
+            @Value("${property.import.job-dir:${java.io.tmpdir}/budongsan-import}") Path jobDir
+    ) throws IOException {
+        this.propertyImportJobRepository = propertyImportJobRepository;
+        this.propertyImportJobRunner = propertyImportJobRunner;
+        this.progressStore = progressStore;
+        this.progressStreamer = progressStreamer;
+        this.teamAccessResolver = teamAccessResolver;
+        this.jobDir = Files.createDirectories(jobDir);
+    }
+
+    /**
+     * 가져오기 작업 등록 → 작업 id 바로 반환 (QUEUED)
+     */
+    public PropertyImportJobResponse submit(LoginMember loginMember, Long teamId, MultipartFile file) {
+        Long resolvedTeamId = teamAccessResolver.resolveTeamId(loginMember, teamId);
+        validateFile(file);
+
+        // 재시작 후에도 이어서 읽을 수 있도록 임시 디렉토리가 아닌 job-dir에 보관 (완료 시 삭제)
+        Path storedFile = jobDir.resolve(UUID.randomUUID() + XLSX_EXTENSION);
+        try {
+            file.transferTo(storedFile);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        PropertyImportJob job = propertyImportJobRepository.save(PropertyImportJob.builder()
+                .teamId(resolvedTeamId)
+                .requestedBy(loginMember.id())
+                .originalFilename(file.getOriginalFilename())
+                .storedPath(storedFile.toString())
+                .build());
+        progressStore.save(job);
+
+        // 대기열이 꽉 찼으면 QUEUED로 남아 재개 주기에 실행
+        propertyImportJobRunner.submit(job.getId());
+        return toResponse(job);
+    }
+
+    /**
+     * 진행 상황 조회 (폴링)
+     */
+    public PropertyImportJobResponse getJob(LoginMember loginMember, Long jobId) {
+        PropertyImportProgressStore.Snapshot snapshot = progressStore.find(jobId).orElse(null);
+        if (snapshot == null) {
+            // 진행 상황이 만료된 오래된 작업 / Redis 장애 → DB 원장 기준 (실패 행 목록은 없음)
+            PropertyImportJob job = propertyImportJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+            teamAccessResolver.resolveTeamId(loginMember, job.getTeamId());
+            return toResponse(job);
+        }
+        teamAccessResolver.resolveTeamId(loginMember, snapshot.teamId());
+        return snapshot.progress();
+    }
+
+    /**
+     * 진행 상황 스트림 (SSE)
+     *
+     * stream-interval마다 진행 상황을 읽어 바뀌었을 때만 "progress" 이벤트 전송 (PropertyImportProgressStreamer)
+     * 작업이 끝나면 마지막 상태를 보내고 스트림 종료
+     */
+    public SseEmitter stream(LoginMember loginMember, Long jobId) {
+        // 권한 / 존재 확인은 스트림 시작 전에 (실패 시 일반 JSON 에러 응답)
+        getJob(loginMember, jobId);
+        return progressStreamer.open(jobId, () -> currentProgress(jobId));
+    }
+
+    // Redis 진행 상황, 없으면 (만료 / Redis 장애) DB 원장
+    private PropertyImportJobResponse currentProgress(Long jobId) {
+        return progressStore.find(jobId)
+                .map(PropertyImportProgressStore.Snapshot::progress)
+                .orElseGet(() -> propertyImportJobRepository.findById(jobId)
+                        .map(PropertyImportService::toResponse)
+                        .orElse(null));
+    }
+
+    private void validateFile(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        if (file.isEmpty() || filename == null || !filename.toLowerCase().endsWith(XLSX_EXTENSION)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+        }
+    }
+
+    private static PropertyImportJobResponse toResponse(PropertyImportJob job) {
+        return new PropertyImportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getProcessedRows(),
+                job.getImportedRows(),
+                job.getFailedRows(),
+                List.of(),
+                job.getFailedRows() > 0,
+                job.getFailureMessage()
+        );
+    }
+}
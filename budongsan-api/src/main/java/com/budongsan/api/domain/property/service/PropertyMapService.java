@@ -0,0 +1,33 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.dto.PropertyMapResponse;
+import com.budongsan.api.domain.property.map.BoundingBox;
+import com.budongsan.api.domain.property.map.PropertyMapIndex;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매물 지도 서비스 (화면 영역 + 줌 → 클러스터/마커)
+ * DB가 아닌 서버 메모리의 PropertyMapIndex에서 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class PropertyMapService {
+
+    private static final int MAX_ZOOM = 21;
+
+    private final PropertyMapIndex propertyMapIndex;
+    private final TeamAccessResolver teamAccessResolver;
+
+    public PropertyMapResponse getMapView(LoginMember loginMember, Long teamId, BoundingBox box, int zoom) {
+        Long resolvedTeamId = teamAccessResolver.resolveTeamId(loginMember, teamId);
+        if (!box.isValid()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return propertyMapIndex.query(resolvedTeamId, box, Math.clamp(zoom, 0, MAX_ZOOM));
+    }
+}
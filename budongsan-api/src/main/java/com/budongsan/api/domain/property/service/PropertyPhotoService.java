@@ -0,0 +1,185 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.dto.PropertyPhotoResponse;
+import com.budongsan.api.domain.property.photo.PhotoFormat;
+import com.budongsan.api.domain.property.photo.PropertyPhotoDeletedEvent;
+import com.budongsan.api.domain.property.photo.PropertyPhotoStorage;
+import com.budongsan.api.domain.property.photo.PropertyPhotoStoredEvent;
+import com.budongsan.api.domain.property.repository.PropertyPhotoRepository;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.domain.property.Property;
+import com.budongsan.core.domain.property.PropertyPhoto;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매물 사진 등록/조회/삭제
+ *
+ * 업로드는 트랜잭션 밖에서 파일을 먼저 디스크에 쓰고, 메타데이터만 짧은 트랜잭션으로 저장
+ * → 파일 쓰는 동안 DB 커넥션을 잡고 있지 않음
+ * → 저장 실패 시 이미 쓴 파일은 삭제
+ *
+ * 형식은 클라이언트 Content-Type이 아니라 파일 앞부분(매직 바이트)으로 판별 (PhotoFormat)
+ */
+@Service
+public class PropertyPhotoService {
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyPhotoRepository propertyPhotoRepository;
+    private final PropertyPhotoStorage storage;
+    private final TeamAccessResolver teamAccessResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;  // 커밋 후 썸네일 생성 / 파일 삭제
+    private final int maxPerProperty;
+    private final long maxFileSize;
+
+    public PropertyPhotoService(
+            PropertyRepository propertyRepository,
+            PropertyPhotoRepository propertyPhotoRepository,
+            PropertyPhotoStorage storage,
+            TeamAccessResolver teamAccessResolver,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${property.photo.max-per-property:30}") int maxPerProperty,
+            @Value("${property.photo.max-file-size:20MB}") DataSize maxFileSize
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.propertyPhotoRepository = propertyPhotoRepository;
+        this.storage = storage;
+        this.teamAccessResolver = teamAccessResolver;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxPerProperty = maxPerProperty;
+        this.maxFileSize = maxFileSize.toBytes();
+    }
+
+    /**
+     * 사진 등록 (여러 장)
+     */
+    public List<PropertyPhotoResponse> upload(LoginMember loginMember, Long propertyId, List<MultipartFile> files) {
+        checkPropertyAccess(loginMember, propertyId);
+        List<PhotoFormat> formats = files.stream().map(this::validateFile).toList();
+        if (propertyPhotoRepository.countByPropertyId(propertyId) + files.size() > maxPerProperty) {
+            throw new BusinessException(ErrorCode.PHOTO_LIMIT_EXCEEDED);
+        }
+
+        List<String> storedNames = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                storedNames.add(storage.store(files.get(i), formats.get(i).getExtension()));
+            }
+            return transactionTemplate.execute(status -> savePhotos(propertyId, files, formats, storedNames));
+        } catch (IOException e) {
+            storedNames.forEach(storage::delete);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        } catch (RuntimeException e) {
+            storedNames.forEach(storage::delete);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<PropertyPhotoResponse> getPhotos(LoginMember loginMember, Long propertyId) {
+        checkPropertyAccess(loginMember, propertyId);
+        return propertyPhotoRepository.findByPropertyIdOrderByIdAsc(propertyId).stream()
+                .map(PropertyPhotoResponse::from)
+                .toList();
+    }
+
+    /**
+     * 사진 파일 위치 조회 (권한 확인 포함)
+     *
+     * @param thumbnail 썸네일 요청 (아직 생성 전이면 원본 파일을 짧은 캐시로 반환)
+     */
+    @Transactional(readOnly = true)
+    public PhotoFile getPhotoFile(LoginMember loginMember, Long propertyId, Long photoId, boolean thumbnail) {
+        checkPropertyAccess(loginMember, propertyId);
+        PropertyPhoto photo = findPhoto(propertyId, photoId);
+
+        if (thumbnail && photo.isThumbnailReady()) {
+            return new PhotoFile(storage.thumbnailPath(photo.getStoredName()), "image/jpeg",
+                    "t-" + photo.getStoredName(), true);
+        }
+        return new PhotoFile(storage.originalPath(photo.getStoredName()), photo.getContentType(),
+                photo.getStoredName(), !thumbnail);
+    }
+
+    /**
+     * 사진 삭제 (파일은 커밋 후 삭제)
+     */
+    @Transactional
+    public void delete(LoginMember loginMember, Long propertyId, Long photoId) {
+        checkPropertyAccess(loginMember, propertyId);
+        PropertyPhoto photo = findPhoto(propertyId, photoId);
+        propertyPhotoRepository.delete(photo);
+        eventPublisher.publishEvent(new PropertyPhotoDeletedEvent(photo.getStoredName()));
+    }
+
+    private List<PropertyPhotoResponse> savePhotos(Long propertyId, List<MultipartFile> files,
+                                                   List<PhotoFormat> formats, List<String> storedNames) {
+        Property property = propertyRepository.getReferenceById(propertyId);
+        List<PropertyPhotoResponse> responses = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            PropertyPhoto photo = propertyPhotoRepository.save(PropertyPhoto.builder()
+                    .property(property)
+                    .storedName(storedNames.get(i))
+                    .originalFilename(file.getOriginalFilename() != null ? file.getOriginalFilename() : storedNames.get(i))
+                    .contentType(formats.get(i).getContentType())
+                    .size(file.getSize())
+                    .build());
+            eventPublisher.publishEvent(new PropertyPhotoStoredEvent(photo.getId(), photo.getStoredName()));
+            responses.add(PropertyPhotoResponse.from(photo));
+        }
+        return responses;
+    }
+
+    // 크기 확인 + 매직 바이트로 형식 판별 (업로드 임시 파일 앞 12바이트만 읽음)
+    private PhotoFormat validateFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+        }
+        if (file.getSize() > maxFileSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        try (InputStream input = file.getInputStream()) {
+            return PhotoFormat.detect(input)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_FILE_FORMAT));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private PropertyPhoto findPhoto(Long propertyId, Long photoId) {
+        return propertyPhotoRepository.findByIdAndPropertyId(photoId, propertyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PHOTO_NOT_FOUND));
+    }
+
+    // 매물 조회 + 소속 팀 권한 확인
+    private void checkPropertyAccess(LoginMember loginMember, Long propertyId) {
+        Property property = propertyRepository.findById(propertyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
+        teamAccessResolver.resolveTeamId(loginMember, property.getTeamId());
+    }
+
+    /**
+     * @param etag      캐시 검증용 (저장 파일명 기반, 내용이 바뀌지 않음)
+     * @param immutable 장기 캐시 가능 여부 (썸네일 대신 원본을 줄 때는 false)
+     */
+    public record PhotoFile(Path path, String contentType, String etag, boolean immutable) {}
+}
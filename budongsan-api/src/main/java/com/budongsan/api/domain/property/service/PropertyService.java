@@ -0,0 +1,170 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.cache.PropertyResultCache;
+import com.budongsan.api.domain.property.dto.PropertyCreateRequest;
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.dto.PropertySearchCondition;
+import com.budongsan.api.domain.property.dto.PropertyUpdateRequest;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.domain.property.DealType;
+import com.budongsan.core.domain.property.Property;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.budongsan.core.domain.property.PropertyStatus;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import com.budongsan.core.response.CursorResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 매물 서비스
+ *
+ * 접근 권한은 팀 단위 (TeamAccessResolver 참고)
+ */
+@Service
+@RequiredArgsConstructor
+public class PropertyService {
+
+    private final PropertyRepository propertyRepository;
+    private final TeamRepository teamRepository;
+    private final TeamAccessResolver teamAccessResolver;
+    private final ApplicationEventPublisher eventPublisher;  // 커밋 후 지도 인덱스 / 검색 캐시 등 갱신
+    private final PropertyResultCache propertyResultCache;
+
+    // 검색 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final JavaType SEARCH_RESULT_TYPE = TypeFactory.defaultInstance()
+            .constructParametricType(CursorResponse.class, PropertyResponse.class);
+
+    // 검색 캐시 키에 들어가는 조건
+    private record SearchCacheKey(PropertySearchCondition condition, Long cursor, int size) {}
+
+    /**
+     * 매물 등록
+     */
+    @Transactional
+    public PropertyResponse createProperty(LoginMember loginMember, PropertyCreateRequest request) {
+        Long teamId = teamAccessResolver.resolveTeamId(loginMember, request.teamId());
+        validateMonthlyRent(request.dealType(), request.monthlyRent());
+        validateCoordinate(request.latitude(), request.longitude());
+
+        Property property = Property.builder()
+                .team(teamRepository.getReferenceById(teamId)) // SELECT 없이 team_id FK만 세팅
+                .title(request.title())
+                .dealType(request.dealType())
+                .price(request.price())
+                .monthlyRent(request.monthlyRent())
+                .area(request.area())
+                .district(request.district())
+                .address(request.address())
+                .memo(request.memo())
+                .latitude(request.latitude())
+                .longitude(request.longitude())
+                .build();
+
+        propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.of(property, PropertyChangedEvent.Type.CREATED));
+        return PropertyResponse.from(property);
+    }
+
+    /**
+     * 매물 단건 조회
+     */
+    @Transactional(readOnly = true)
+    public PropertyResponse getProperty(LoginMember loginMember, Long propertyId) {
+        return PropertyResponse.from(findAccessibleProperty(loginMember, propertyId));
+    }
+
+    /**
+     * 매물 수정
+     */
+    @Transactional
+    public PropertyResponse updateProperty(LoginMember loginMember, Long propertyId, PropertyUpdateRequest request) {
+        validateMonthlyRent(request.dealType(), request.monthlyRent());
+        validateCoordinate(request.latitude(), request.longitude());
+
+        Property property = findAccessibleProperty(loginMember, propertyId);
+        property.update(
+                request.title(),
+                request.dealType(),
+                request.price(),
+                request.monthlyRent(),
+                request.area(),
+                request.district(),
+                request.address(),
+                request.memo(),
+                request.latitude(),
+                request.longitude()
+        );
+        propertyRepository.flush(); // updatedAt(@PreUpdate) 반영 후 응답
+        eventPublisher.publishEvent(PropertyChangedEvent.of(property, PropertyChangedEvent.Type.UPDATED));
+        return PropertyResponse.from(property);
+    }
+
+    /**
+     * 매물 상태 변경
+     */
+    @Transactional
+    public PropertyResponse changeStatus(LoginMember loginMember, Long propertyId, PropertyStatus status) {
+        Property property = findAccessibleProperty(loginMember, propertyId);
+        property.changeStatus(status);
+        propertyRepository.flush();
+        eventPublisher.publishEvent(PropertyChangedEvent.of(property, PropertyChangedEvent.Type.STATUS_CHANGED));
+        return PropertyResponse.from(property);
+    }
+
+    /**
+     * 매물 검색 (동적 필터 + 최신순 커서 페이지)
+     *
+     * 팀 단위 Redis 캐시 우선 (매물이 바뀌면 팀 버전이 올라가 자동 무효화)
+     * 트랜잭션을 걸지 않음 → 캐시 히트면 DB 커넥션을 쓰지 않음
+     */
+    public CursorResponse<PropertyResponse> searchProperties(LoginMember loginMember, Long teamId,
+                                                             PropertySearchCondition condition,
+                                                             Long cursor, int size) {
+        Long resolvedTeamId = teamAccessResolver.resolveTeamId(loginMember, teamId);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        return propertyResultCache.getOrLoad("search", resolvedTeamId,
+                new SearchCacheKey(condition, cursor, pageSize), SEARCH_RESULT_TYPE, () -> {
+                    // 다음 페이지 여부 확인을 위해 1개 더 조회
+                    List<PropertyResponse> fetched =
+                            propertyRepository.search(resolvedTeamId, condition, cursor, pageSize + 1);
+                    return CursorResponse.of(fetched, pageSize, PropertyResponse::id);
+                });
+    }
+
+    /**
+     * 매물 조회 + 소속 팀 권한 확인
+     */
+    private Property findAccessibleProperty(LoginMember loginMember, Long propertyId) {
+        Property property = propertyRepository.findById(propertyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
+        teamAccessResolver.resolveTeamId(loginMember, property.getTeamId());
+        return property;
+    }
+
+    // 월세 매물은 월세 금액 필수
+    private void validateMonthlyRent(DealType dealType, Long monthlyRent) {
+        if (dealType == DealType.MONTHLY_RENT && monthlyRent == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    // 위도/경도는 둘 다 있거나 둘 다 없어야 함
+    private void validateCoordinate(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
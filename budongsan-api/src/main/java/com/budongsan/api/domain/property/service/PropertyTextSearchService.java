@@ -0,0 +1,58 @@
+package com.budongsan.api.domain.property.service;
+
+import com.budongsan.api.domain.property.dto.PropertyResponse;
+import com.budongsan.api.domain.property.repository.PropertyRepository;
+import com.budongsan.api.domain.property.search.PropertySearchIndex;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.global.security.LoginMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매물 텍스트 검색 (제목 / 주소 / 메모)
+ *
+ * 1. 서버 메모리의 검색 인덱스에서 관련도 순 매물 id 조회
+ * 2. 해당 id만 DB에서 조회 (PK 조회) 후 관련도 순서대로 정렬
+ *
+ * PropertyResultCache를 쓰지 않음:
+ * 팀 버전은 커밋 직후 올라가지만 검색 인덱스는 서버마다 Redis 채널로 변경을 받은 뒤에 반영됨
+ * → 그 사이 검색하면 변경 전 순위가 새 버전 키로 TTL 동안 캐시됨
+ * 인덱스 검색은 메모리 조회 + PK 조회라 캐시 없이도 가벼움
+ */
+@Service
+@RequiredArgsConstructor
+public class PropertyTextSearchService {
+
+    private static final int MAX_RESULT_SIZE = 100;
+
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertyRepository propertyRepository;
+    private final TeamAccessResolver teamAccessResolver;
+
+    public List<PropertyResponse> search(LoginMember loginMember, Long teamId, String query, int size) {
+        Long resolvedTeamId = teamAccessResolver.resolveTeamId(loginMember, teamId);
+        int resultSize = Math.clamp(size, 1, MAX_RESULT_SIZE);
+
+        return searchRanked(resolvedTeamId, query, resultSize);
+    }
+
+    private List<PropertyResponse> searchRanked(Long teamId, String query, int size) {
+        List<Long> rankedIds = propertySearchIndex.search(teamId, query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>(rankedIds.size() * 2);
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        return propertyRepository.findResponsesByIds(teamId, rankedIds).stream()
+                .sorted(Comparator.comparingInt(response -> rank.get(response.id())))
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.budongsan.api.domain.team.activity;
+
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.budongsan.core.domain.team.TeamMemberJoinedEvent;
+
+/**
+ * 팀 대시보드로 보내는 실시간 활동 (SSE 이벤트 이름 = type, 데이터 = 이 record의 JSON)
+ *
+ * 화면 갱신 신호로만 사용 → 상세 내용은 클라이언트가 REST로 다시 조회
+ *
+ * @param propertyId 매물 활동만 (PROPERTIES_IMPORTED는 여러 건이라 null)
+ * @param memberId   MEMBER_JOINED만
+ * @param memberName MEMBER_JOINED만
+ * @param occurredAt 발생 시각 (epoch millis, 발행한 서버 기준)
+ */
+public record TeamActivity(
+        Type type,
+        Long teamId,
+        Long propertyId,
+        Long memberId,
+        String memberName,
+        long occurredAt
+) {
+
+    public enum Type {
+        MEMBER_JOINED, PROPERTY_CREATED, PROPERTY_UPDATED, PROPERTY_STATUS_CHANGED, PROPERTIES_IMPORTED
+    }
+
+    public static TeamActivity from(TeamMemberJoinedEvent event) {
+        return new TeamActivity(Type.MEMBER_JOINED, event.teamId(), null,
+                event.memberId(), event.memberName(), System.currentTimeMillis());
+    }
+
+    public static TeamActivity from(PropertyChangedEvent event) {
+        Type type = switch (event.type()) {
+            case CREATED -> Type.PROPERTY_CREATED;
+            case UPDATED -> Type.PROPERTY_UPDATED;
+            case STATUS_CHANGED -> Type.PROPERTY_STATUS_CHANGED;
+            case BULK_IMPORTED -> Type.PROPERTIES_IMPORTED;
+        };
+        return new TeamActivity(type, event.teamId(), event.propertyId(), null, null, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,81 @@
+package com.budongsan.api.domain.team.activity;
+
+import com.budongsan.api.domain.property.event.PropertyChangeListener;
+import com.budongsan.core.domain.property.PropertyChangedEvent;
+import com.budongsan.core.domain.team.TeamMemberJoinedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+
+/**
+ * 팀 활동을 모든 API 서버의 SSE 연결로 전파
+ *
+ * 대시보드 연결은 여러 서버에 나뉘어 있음 → 활동이 일어난 서버와 상관없이 모든 서버가 받아야 함
+ * - 매물 변경: PropertyChangeBroadcaster가 이미 "property:changed" 채널로 모든 서버에 전달 → 리스너로 받기만 함
+ * - 팀원 가입: 커밋 후 "team:activity" 채널에 JSON 발행 → 모든 서버(자기 자신 포함)가 수신
+ *
+ * Redis 장애로 발행에 실패하면 자기 서버 연결에만 전달
+ */
+@Slf4j
+@Component
+public class TeamActivityBroadcaster implements MessageListener, PropertyChangeListener {
+
+    public static final String CHANNEL = "team:activity";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TeamActivityHub hub;
+
+    public TeamActivityBroadcaster(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            TeamActivityHub hub,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 팀원 가입 커밋 후 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(TeamMemberJoinedEvent event) {
+        TeamActivity activity = TeamActivity.from(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(activity));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("팀 활동 전파 실패, 로컬에만 전송: {}", activity, e);
+            hub.publish(activity);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자기 자신)가 발행한 팀 활동 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            hub.publish(objectMapper.readValue(message.getBody(), TeamActivity.class));
+        } catch (IOException e) {
+            log.warn("팀 활동 메시지 해석 실패", e);
+        }
+    }
+
+    @Override
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        hub.publish(TeamActivity.from(event));
+    }
+}
@@ -0,0 +1,292 @@
+package com.budongsan.api.domain.team.activity;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팀 활동 SSE 연결 관리 (서버별)
+ *
+ * 연결 비용:
+ * - 연결마다 스레드를 잡지 않음 (서블릿 비동기 요청, 대기 중에는 소켓만 열려 있음)
+ * - 활동은 팀 id로 연결 목록을 찾아 해당 팀에만 전송, 연결 없는 팀은 직렬화도 하지 않음
+ * - JSON 직렬화는 활동 1건당 1번, 모든 연결이 같은 이벤트 객체를 씀
+ *
+ * 전송 (연결별 backpressure):
+ * - 활동 수신 스레드(Redis 리스너 등)는 연결별 대기열(buffer-size)에 넣기만 함 → 느린 연결이 수신을 막지 않음
+ * - 실제 쓰기는 전송 전용 스레드풀, 한 연결은 한 번에 한 스레드만 비움 (순서 유지)
+ * - 대기열이 꽉 찬 연결은 쌓인 이벤트를 버리고 "RESYNC" 1건만 보냄 → 클라이언트가 REST로 다시 조회
+ * - 한 번에 drain-batch건까지만 보내고 다시 예약 → 이벤트가 계속 들어오는 팀이 전송 스레드를 독차지하지 않음
+ * - 쓰기 1건이 send-timeout 안에 끝나지 않는 연결(수신 창이 막힌 클라이언트)은 stall-check-interval마다 찾아 끊음
+ *   → 막힌 쓰기는 컨테이너가 응답을 닫으면서 풀림, 전송 스레드 전체가 느린 연결에 묶이지 않음
+ *
+ * heartbeat-interval마다 주석 이벤트(ping) 전송 → 프록시 유휴 종료 방지 + 끊긴 연결 정리
+ *
+ * 메트릭:
+ * - team.activity.connections : 열린 연결 수
+ * - team.activity.published   : 연결이 있는 팀으로 보낸 활동 수
+ * - team.activity.dropped     : 대기열 초과로 이벤트를 버린 횟수
+ * - team.activity.stalled     : 쓰기가 send-timeout을 넘겨 끊은 연결 수
+ */
+@Slf4j
+@Component
+public class TeamActivityHub {
+
+    private static final Set<DataWithMediaType> READY = SseEmitter.event().name("READY").data("{}").build();
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("RESYNC").data("{}").build();
+    private static final Set<DataWithMediaType> PING = SseEmitter.event().comment("ping").build();
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+
+    private final int maxConnections;
+    private final int bufferSize;
+    private final long streamTimeoutMillis;
+    private final int drainBatch;
+    private final long sendTimeoutNanos;
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+
+    public TeamActivityHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${team.activity.max-connections:10000}") int maxConnections,
+            @Value("${team.activity.buffer-size:32}") int bufferSize,
+            @Value("${team.activity.sender-threads:4}") int senderThreads,
+            @Value("${team.activity.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${team.activity.drain-batch:16}") int drainBatch,
+            @Value("${team.activity.send-timeout:5s}") Duration sendTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxConnections = maxConnections;
+        this.bufferSize = bufferSize;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.drainBatch = drainBatch;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        // 연결마다 전송 작업은 최대 1개만 대기 (draining 표시) → 대기열은 연결 수만큼이면 충분
+        this.sender = new ThreadPoolExecutor(
+                senderThreads, senderThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConnections),
+                new SenderThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 꽉 차면 RejectedExecutionException
+        );
+
+        this.publishedCounter = Counter.builder("team.activity.published").register(meterRegistry);
+        this.droppedCounter = Counter.builder("team.activity.dropped").register(meterRegistry);
+        this.stalledCounter = Counter.builder("team.activity.stalled").register(meterRegistry);
+        Gauge.builder("team.activity.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 팀 활동 스트림 연결 (권한 확인은 호출하는 쪽에서)
+     *
+     * 연결 직후 "READY" 이벤트 전송 → 클라이언트는 이걸 받은 뒤 REST로 현재 상태를 조회하면 빠지는 활동이 없음
+     * stream-timeout이 지나면 서버가 연결을 닫음 → 클라이언트가 다시 연결
+     */
+    public SseEmitter subscribe(Long teamId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new BusinessException(ErrorCode.STREAM_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(teamId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.compute(teamId, (id, set) -> {
+            Set<Subscriber> targets = set != null ? set : ConcurrentHashMap.newKeySet();
+            targets.add(subscriber);
+            return targets;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        subscriber.queue().offer(READY);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 해당 팀 연결에 활동 전송 (대기열에 넣기만 하고 바로 반환)
+     */
+    public void publish(TeamActivity activity) {
+        Set<Subscriber> targets = subscribers.get(activity.teamId());
+        if (targets == null) {
+            return;
+        }
+
+        Set<DataWithMediaType> event;
+        try {
+            event = SseEmitter.event()
+                    .name(activity.type().name())
+                    .data(objectMapper.writeValueAsString(activity))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("팀 활동 직렬화 실패: {}", activity, e);
+            return;
+        }
+
+        publishedCounter.increment();
+        for (Subscriber subscriber : targets) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 + 끊긴 연결 정리 (전송 실패 시 제거됨)
+     * 전송 풀이 거절했던 연결도 여기서 다시 전송 예약
+     */
+    @Scheduled(fixedDelayString = "${team.activity.heartbeat-interval:20000}")
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.queue().isEmpty()) {
+                    subscriber.queue().offer(PING);
+                }
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 쓰기가 send-timeout을 넘긴 연결 종료
+     * completeWithError는 send와 달리 emitter 잠금을 잡지 않음 → 막힌 쓰기를 기다리지 않고 바로 닫힘
+     */
+    @Scheduled(fixedDelayString = "${team.activity.stall-check-interval:1000}")
+    public void closeStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                long startedAt = subscriber.sendStartedAt().get();
+                if (startedAt == 0L || now - startedAt < sendTimeoutNanos) {
+                    continue;
+                }
+                remove(subscriber);
+                stalledCounter.increment();
+                log.debug("팀 활동 전송 지연으로 연결 종료: teamId={}", subscriber.teamId());
+                subscriber.emitter().completeWithError(new TimeoutException("SSE 쓰기 시간 초과"));
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue().offer(event)) {
+            // 느린 연결: 쌓인 이벤트를 버리고 다시 조회하라는 신호만 남김
+            subscriber.queue().clear();
+            subscriber.queue().offer(RESYNC);
+            droppedCounter.increment();
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.closed().get() || !subscriber.draining().compareAndSet(false, true)) {
+            return; // 이미 다른 스레드가 비우는 중 → 그 스레드가 이어서 보냄
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining().set(false); // 다음 heartbeat 때 다시 시도
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> event;
+            for (int sent = 0; sent < drainBatch && !subscriber.closed().get()
+                    && (event = subscriber.queue().poll()) != null; sent++) {
+                subscriber.sendStartedAt().set(System.nanoTime());
+                subscriber.emitter().send(event);
+                subscriber.sendStartedAt().set(0L);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김 / 이미 완료된 emitter (지연으로 끊긴 연결 포함)
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        } finally {
+            subscriber.sendStartedAt().set(0L);
+            subscriber.draining().set(false);
+        }
+
+        // 남은 이벤트 (batch 초과분 + 비우는 사이에 들어온 이벤트) → 다른 연결 뒤로 다시 예약
+        if (!subscriber.queue().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.teamId(), (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter().complete()));
+    }
+
+    /**
+     * @param queue         보낼 이벤트 (크기 제한)
+     * @param draining      전송 스레드가 비우는 중
+     * @param closed        연결 종료 (중복 제거 방지)
+     * @param sendStartedAt 진행 중인 쓰기 시작 시각 (System.nanoTime, 0이면 쓰는 중 아님)
+     */
+    private record Subscriber(
+            Long teamId,
+            SseEmitter emitter,
+            BlockingQueue<Set<DataWithMediaType>> queue,
+            AtomicBoolean draining,
+            AtomicBoolean closed,
+            AtomicLong sendStartedAt
+    ) {
+        Subscriber(Long teamId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this(teamId, emitter, queue, new AtomicBoolean(), new AtomicBoolean(), new AtomicLong());
+        }
+    }
+
+    /**
+     * 스레드 이름: team-activity-1, team-activity-2 ... (스레드 덤프에서 구분용)
+     */
+    private static class SenderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "team-activity-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
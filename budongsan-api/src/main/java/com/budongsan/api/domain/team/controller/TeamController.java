@@ -1,18 +1,26 @@
 package com.budongsan.api.domain.team.controller;
 
+import com.budongsan.api.domain.member.dto.TokenResponse;
 import com.budongsan.api.domain.team.dto.TeamCreateRequest;
+import com.budongsan.api.domain.team.dto.TeamMemberResponse;
 import com.budongsan.api.domain.team.dto.TeamResponse;
 import com.budongsan.api.domain.team.service.TeamService;
+import com.budongsan.api.global.security.LoginMember;
 import com.budongsan.core.response.ApiResponse;
+import com.budongsan.core.response.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -26,35 +34,61 @@ public class TeamController {
     @Operation(summary = "팀 생성", description = "팀장만 팀을 생성할 수 있습니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<TeamResponse>> createTeam(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal LoginMember loginMember,
             @Valid @RequestBody TeamCreateRequest request) {
-        TeamResponse response = teamService.createTeam(userDetails.getUsername(), request);
+        TeamResponse response = teamService.createTeam(loginMember, request);
         return ResponseEntity.ok(ApiResponse.success("팀이 생성되었습니다.", response));
     }
 
     @Operation(summary = "내 팀 조회", description = "팀장: 내가 만든 팀 목록 / 팀원: 내가 속한 팀")
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<List<TeamResponse>>> getMyTeams(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<TeamResponse> response = teamService.getMyTeams(userDetails.getUsername());
+            @AuthenticationPrincipal LoginMember loginMember) {
+        List<TeamResponse> response = teamService.getMyTeams(loginMember);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "팀 가입", description = "초대코드로 팀에 가입합니다. (팀원만 가능)")
+    @Operation(summary = "팀 가입", description = "초대코드로 팀에 가입합니다. (팀원만 가능) 팀 정보가 담긴 새 Access Token을 반환합니다.")
     @PostMapping("/join")
-    public ResponseEntity<ApiResponse<Void>> joinTeam(
-            @AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<TokenResponse>> joinTeam(
+            @AuthenticationPrincipal LoginMember loginMember,
             @RequestParam String inviteCode) {
-        teamService.joinTeam(userDetails.getUsername(), inviteCode);
-        return ResponseEntity.ok(ApiResponse.success("팀에 가입되었습니다."));
+        TokenResponse response = teamService.joinTeam(loginMember, inviteCode);
+        return ResponseEntity.ok(ApiResponse.success("팀에 가입되었습니다.", response));
     }
 
-    @Operation(summary = "팀원 목록 조회", description = "팀장만 팀원 목록을 조회할 수 있습니다.")
-    @GetMapping("/{teamId}/members")
-    public ResponseEntity<ApiResponse<List<String>>> getTeamMembers(
-            @AuthenticationPrincipal UserDetails userDetails,
+    @Operation(summary = "팀 실시간 활동 (SSE)",
+            description = "팀원 가입, 매물 등록/수정/상태 변경/가져오기를 text/event-stream으로 전송합니다. "
+                    + "연결 직후 READY, 놓친 이벤트가 있으면 RESYNC를 보냅니다. (받으면 REST로 다시 조회)")
+    @GetMapping(value = "/{teamId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamActivity(
+            @AuthenticationPrincipal LoginMember loginMember,
             @PathVariable Long teamId) {
-        List<String> members = teamService.getTeamMembers(userDetails.getUsername(), teamId);
+        return teamService.subscribeActivity(loginMember, teamId);
+    }
+
+    @Operation(summary = "팀원 목록 조회",
+            description = "팀장만 팀원 목록을 조회할 수 있습니다. id 순 커서 페이지 (응답의 next를 다음 요청의 cursor로 전달)")
+    @GetMapping("/{teamId}/members")
+    public ResponseEntity<ApiResponse<CursorResponse<TeamMemberResponse>>> getTeamMembers(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long teamId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<TeamMemberResponse> members = teamService.getTeamMembers(loginMember, teamId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(members));
     }
+
+    @Operation(summary = "팀원 전체 목록 조회",
+            description = "팀장만 조회할 수 있습니다. 페이지 없이 전체 팀원을 스트리밍합니다. (응답 형식은 다른 API와 동일)")
+    @GetMapping("/{teamId}/members/all")
+    public void streamTeamMembers(
+            @AuthenticationPrincipal LoginMember loginMember,
+            @PathVariable Long teamId,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // Content-Length 없이 chunked 전송, 권한 확인/조회 실패는 쓰기 전이라 일반 JSON 에러 응답
+        teamService.streamTeamMembers(loginMember, teamId, response.getOutputStream());
+    }
 }
@@ -0,0 +1,6 @@
+package com.budongsan.api.domain.team.dto;
+
+/**
+ * 팀 id + 초대코드 (초대코드 색인 채우기용 프로젝션)
+ */
+public record TeamInviteCode(Long teamId, String inviteCode) {}
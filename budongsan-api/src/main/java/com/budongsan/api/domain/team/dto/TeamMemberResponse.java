@@ -0,0 +1,11 @@
+package com.budongsan.api.domain.team.dto;
+
+/**
+ * 팀원 목록 항목 DTO
+ * 엔티티 전체(비밀번호 해시 포함) 대신 필요한 컬럼만 프로젝션으로 조회
+ */
+public record TeamMemberResponse(
+        Long id,
+        String name,
+        String email
+) {}
@@ -4,13 +4,16 @@ import com.budongsan.core.domain.team.Team;
 
 /**
  * 팀 응답 DTO
+ *
+ * 목록 조회는 TeamRepositoryImpl의 프로젝션 쿼리로 바로 생성 (N+1 방지)
+ * from(team)은 팀 생성 직후처럼 엔티티가 이미 있을 때만 사용
  */
 public record TeamResponse(
         Long id,
         String name,
         String inviteCode,
         String leaderName,
-        int memberCount
+        long memberCount
 ) {
     public static TeamResponse from(Team team) {
         return new TeamResponse(
@@ -0,0 +1,38 @@
+package com.budongsan.api.domain.team.invite;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 초대코드 생성 / 형식 확인
+ *
+ * 새 코드: 헷갈리는 문자(0/O, 1/I/L)를 뺀 31자 × 8자리 (약 8,500억 개, 추측으로 맞히기 어려움)
+ * 기존 코드(UUID 앞 8자리 대문자)도 받아들이도록 형식 확인은 영문 대문자 + 숫자 8자리
+ */
+final class InviteCodes {
+
+    private static final char[] ALPHABET = "ABCDEFGHJKMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int LENGTH = 8;
+    private static final Pattern WELL_FORMED = Pattern.compile("^[A-Z0-9]{8}$");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private InviteCodes() {}
+
+    static String generate() {
+        char[] code = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            code[i] = ALPHABET[RANDOM.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+
+    // 사용자 입력 정리 (앞뒤 공백, 소문자 허용)
+    static String normalize(String input) {
+        return input == null ? "" : input.strip().toUpperCase(Locale.ROOT);
+    }
+
+    static boolean isWellFormed(String code) {
+        return WELL_FORMED.matcher(code).matches();
+    }
+}
@@ -0,0 +1,428 @@
+package com.budongsan.api.domain.team.invite;
+
+import com.budongsan.api.domain.team.dto.TeamInviteCode;
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.global.util.BloomFilter;
+import com.budongsan.core.domain.team.Team;
+import com.budongsan.core.domain.team.TeamCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 초대코드 → 팀 id 색인
+ *
+ * 팀 가입마다 team 테이블을 조회하지 않도록 Redis HASH "INVITE:TEAM" (code → teamId)에서 찾음
+ *
+ * 조회 순서 (무작위 대입 요청이 Redis/DB까지 가지 않도록):
+ * 1. 형식이 틀리면 바로 거절
+ * 2. 서버 메모리의 유효 코드 Bloom Filter에 없으면 바로 거절 (대부분의 추측 코드, 필터를 신뢰할 수 있을 때만)
+ * 3. 서버 메모리의 없는 코드 캐시(Caffeine)에 있으면 바로 거절 (Bloom Filter 오탐분)
+ * 4. Redis Lua (HGET + READY 확인, 왕복 1회) → 있으면 팀 id, 없으면 없는 코드 캐시에 추가 후 거절
+ * 5. 색인이 준비 전(Redis 데이터 유실 등)이거나 Redis 장애면 DB 조회
+ *
+ * 채우기: 기동 직후 + 주기적으로 "INVITE:READY" 표시가 없으면 전체 팀을 페이지 단위로 채움
+ * 새 팀: 커밋 후 HSET + 세대 증가(INCR "INVITE:GEN") + "invite-code-created" 채널 발행 ("세대:코드")
+ *       → 모든 서버가 Bloom Filter에 추가
+ *
+ * Bloom Filter 신뢰 (없는 유효 코드로 거절하면 "Redis 장애 → DB 조회" 원칙이 깨짐):
+ * - 서버마다 필터가 빠짐없이 반영한 세대(coveredGeneration)를 관리 (HSCAN 직전 세대 + 이어지는 메시지)
+ * - filter-check-interval마다 READY + 세대를 한 번에 읽어 같으면 신뢰 기간(확인 주기 × 3) 연장
+ * - READY가 없거나 Redis 오류 / Lua가 색인 없음(-1)을 돌려주면 필터를 버림 → 다음 확인 때 다시 생성
+ * - 세대가 두 번 연속 같은 곳에서 뒤처져 있으면 메시지 유실로 보고 다시 생성 (전파 중인 동안은 신뢰 연장 안 함)
+ * - 신뢰 기간이 지났거나 필터가 없으면 Bloom Filter 단계는 건너뜀 (유효한 코드를 거절하지 않도록)
+ * 남는 틈은 다른 서버에서 방금 만든 코드의 메시지가 도착하기 전(Pub/Sub 지연)뿐
+ * Bloom Filter는 filter-rebuild-interval마다도 색인(HSCAN)으로 새로 만듦
+ *
+ * 없는 코드 캐시는 서버별이라 다른 서버에서 방금 만든 팀의 코드가 남아 있을 수 있음
+ * → 풀 코드를 추측으로 먼저 입력해야만 생기는 경우라 negative-ttl 만큼만 유지
+ *
+ * 메트릭: team.invite.resolve{result=hit|miss|malformed|filtered|negative|fallback}
+ */
+@Slf4j
+@Component
+public class TeamInviteCodeIndex implements MessageListener {
+
+    public static final String CREATED_CHANNEL = "invite-code-created";
+    private static final String INDEX_KEY = "INVITE:TEAM";
+    private static final String READY_KEY = "INVITE:READY";
+    private static final String GENERATION_KEY = "INVITE:GEN";
+    private static final int BACKFILL_PAGE_SIZE = 1000;
+    private static final long NOT_READY = -1L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> inviteCodeResolveScript;
+    private final TeamRepository teamRepository;
+    private final Cache<String, Boolean> unknownCodes;
+    private final long filterExpectedInsertions;
+    private final double filterFpp;
+    private final long filterTrustNanos;
+
+    // 조회는 락 없이 volatile 읽기 (null = 없음 → 건너뜀), 교체/추가/세대 갱신은 락
+    private volatile BloomFilter validCodes;
+    private volatile long trustedUntil;    // System.nanoTime, 지나면 필터를 믿지 않음
+    private BloomFilter building;          // 재생성 중인 필터 (재생성 중 만들어진 팀도 놓치지 않도록)
+    private Set<Long> buildingGenerations; // 재생성 중 받은 세대
+    private long coveredGeneration;        // 이 세대까지의 코드는 모두 필터에 있음
+    private final NavigableSet<Long> receivedGenerations = new TreeSet<>(); // covered 이후 먼저 도착한 세대
+    private long laggingGeneration = -1;   // 직전 확인 때 뒤처져 있던 covered 값
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter malformedCounter;
+    private final Counter filteredCounter;
+    private final Counter negativeCounter;
+    private final Counter fallbackCounter;
+
+    public TeamInviteCodeIndex(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScript<Long> inviteCodeResolveScript,
+            TeamRepository teamRepository,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${team.invite-code.negative-size:10000}") long negativeSize,
+            @Value("${team.invite-code.negative-ttl:10m}") Duration negativeTtl,
+            @Value("${team.invite-code.filter-expected-insertions:200000}") long filterExpectedInsertions,
+            @Value("${team.invite-code.filter-fpp:0.01}") double filterFpp,
+            @Value("${team.invite-code.filter-check-interval:2000}") long filterCheckIntervalMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.inviteCodeResolveScript = inviteCodeResolveScript;
+        this.teamRepository = teamRepository;
+        this.filterExpectedInsertions = filterExpectedInsertions;
+        this.filterFpp = filterFpp;
+        this.filterTrustNanos = Duration.ofMillis(filterCheckIntervalMillis * 3).toNanos();
+        this.unknownCodes = Caffeine.newBuilder()
+                .maximumSize(negativeSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownCodes, "team.invite.negative");
+
+        this.hitCounter = resolveCounter(meterRegistry, "hit");
+        this.missCounter = resolveCounter(meterRegistry, "miss");
+        this.malformedCounter = resolveCounter(meterRegistry, "malformed");
+        this.filteredCounter = resolveCounter(meterRegistry, "filtered");
+        this.negativeCounter = resolveCounter(meterRegistry, "negative");
+        this.fallbackCounter = resolveCounter(meterRegistry, "fallback");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CREATED_CHANNEL));
+    }
+
+    /**
+     * 초대코드로 팀 id 조회 (없는 코드면 empty)
+     */
+    public Optional<Long> resolve(String inviteCode) {
+        String code = InviteCodes.normalize(inviteCode);
+        if (!InviteCodes.isWellFormed(code)) {
+            malformedCounter.increment();
+            return Optional.empty();
+        }
+        BloomFilter filter = validCodes;
+        if (filter != null && System.nanoTime() - trustedUntil < 0 && !filter.mightContain(code)) {
+            filteredCounter.increment();
+            return Optional.empty();
+        }
+        if (unknownCodes.getIfPresent(code) != null) {
+            negativeCounter.increment();
+            return Optional.empty();
+        }
+
+        try {
+            Long teamId = redisTemplate.execute(inviteCodeResolveScript, List.of(INDEX_KEY, READY_KEY), code);
+            if (teamId != null && teamId > 0) {
+                hitCounter.increment();
+                return Optional.of(teamId);
+            }
+            if (teamId != null && teamId != NOT_READY) {
+                missCounter.increment();
+                unknownCodes.put(code, Boolean.TRUE);
+                return Optional.empty();
+            }
+            discardFilter(); // 색인 없음 → 필터도 빠진 코드가 있을 수 있음
+        } catch (DataAccessException e) {
+            log.warn("초대코드 색인 조회 실패, DB 조회로 진행", e);
+            discardFilter();
+        }
+
+        // 색인이 아직 없거나 Redis 장애
+        fallbackCounter.increment();
+        Optional<Long> teamId = teamRepository.findByInviteCode(code).map(Team::getId);
+        if (teamId.isEmpty()) {
+            unknownCodes.put(code, Boolean.TRUE);
+        }
+        return teamId;
+    }
+
+    /**
+     * 팀 생성 커밋 후 → 색인에 추가 + 모든 서버의 Bloom Filter에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamCreated(TeamCreatedEvent event) {
+        addValidCode(event.inviteCode());
+        try {
+            // HSET 후 INCR → 세대 g를 읽은 뒤 HSCAN하면 g까지의 코드는 모두 읽힘
+            redisTemplate.opsForHash().put(INDEX_KEY, event.inviteCode(), event.teamId().toString());
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.convertAndSend(CREATED_CHANNEL, generation + ":" + event.inviteCode());
+        } catch (DataAccessException e) {
+            // READY 표시가 있으면 조회 시 없는 코드로 판단됨 → 다음 확인 때 다시 채우도록 표시 제거
+            // 다른 서버 필터에는 이 코드가 없음 → READY가 사라진 것을 보고 필터를 버림
+            log.warn("초대코드 색인 추가 실패: 팀 {}", event.teamId(), e);
+            removeReadyQuietly();
+            discardFilter();
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자기 자신)가 만든 팀의 초대코드 수신 ("세대:코드")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            addValidCode(body); // 세대 없는 메시지 (이전 버전 서버) → 세대는 확인 주기에 뒤처진 것으로 잡힘
+            return;
+        }
+        addValidCode(body.substring(separator + 1));
+        markGeneration(Long.parseLong(body.substring(0, separator)));
+    }
+
+    /**
+     * Bloom Filter를 계속 믿어도 되는지 확인 (READY + 세대, 왕복 1회)
+     * 필터가 없으면 다시 생성, 세대가 맞으면 신뢰 기간 연장
+     */
+    @Scheduled(fixedDelayString = "${team.invite-code.filter-check-interval:2000}")
+    public void checkFilter() {
+        List<String> state;
+        try {
+            state = redisTemplate.opsForValue().multiGet(List.of(READY_KEY, GENERATION_KEY));
+        } catch (DataAccessException e) {
+            discardFilter();
+            return;
+        }
+        if (state == null || state.get(0) == null) {
+            discardFilter(); // 색인 준비 전 / 유실 / 다른 서버의 색인 추가 실패
+            return;
+        }
+        if (validCodes == null) {
+            rebuildFilter();
+            return;
+        }
+
+        long generation = parseGeneration(state.get(1));
+        boolean lost;
+        lock.lock();
+        try {
+            if (generation <= coveredGeneration) { // 읽은 뒤 도착한 메시지로 covered가 앞설 수 있음
+                trustedUntil = System.nanoTime() + filterTrustNanos;
+                laggingGeneration = -1;
+                return;
+            }
+            // 뒤처짐: 처음이면 메시지가 오는 중일 수 있어 기다림 (신뢰는 연장하지 않음)
+            lost = laggingGeneration == coveredGeneration;
+            laggingGeneration = coveredGeneration;
+        } finally {
+            lock.unlock();
+        }
+        if (lost) {
+            log.info("초대코드 Bloom Filter 세대 불일치 (메시지 유실), 다시 생성");
+            rebuildFilter();
+        }
+    }
+
+    /**
+     * 색인 채우기 (기동 직후 + 주기적으로 확인, 이미 준비됐으면 아무것도 안 함)
+     * 여러 서버가 동시에 채워도 같은 값을 덮어쓸 뿐이라 안전
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${team.invite-code.index-check-interval:60000}")
+    public void ensureIndexed() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                return; // 필터는 checkFilter가 생성
+            }
+
+            int indexed = 0;
+            Long cursor = null;
+            List<TeamInviteCode> page;
+            do {
+                page = teamRepository.findInviteCodes(cursor, BACKFILL_PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                Map<String, String> entries = new HashMap<>(page.size() * 2);
+                for (TeamInviteCode teamInviteCode : page) {
+                    entries.put(teamInviteCode.inviteCode(), teamInviteCode.teamId().toString());
+                }
+                redisTemplate.opsForHash().putAll(INDEX_KEY, entries);
+                indexed += page.size();
+                cursor = page.getLast().teamId();
+            } while (page.size() == BACKFILL_PAGE_SIZE);
+
+            redisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("초대코드 색인 채우기 완료: {}개", indexed);
+            rebuildFilter();
+        } catch (DataAccessException e) {
+            log.warn("초대코드 색인 채우기 실패 (DB 조회로 동작)", e);
+        }
+    }
+
+    /**
+     * 색인(Redis HASH)으로 Bloom Filter 재생성 → 메시지 유실 복구
+     * HSCAN으로 나눠 읽음 (HKEYS처럼 Redis를 오래 붙잡지 않음)
+     * 세대를 먼저 읽고 HSCAN → 그 세대까지는 빠짐없이 반영, 이후 세대는 재생성 중 받은 메시지로 이어감
+     * 색인이 준비 전이거나 Redis 오류면 기존 필터도 버림 (오래된 필터로 유효한 코드를 거절하지 않도록)
+     */
+    @Scheduled(initialDelayString = "${team.invite-code.filter-rebuild-interval:600000}",
+            fixedDelayString = "${team.invite-code.filter-rebuild-interval:600000}")
+    public void rebuildFilter() {
+        BloomFilter next = new BloomFilter(filterExpectedInsertions, filterFpp);
+        lock.lock();
+        try {
+            building = next;
+            buildingGenerations = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        int count = 0;
+        long generation;
+        try {
+            List<String> state = redisTemplate.opsForValue().multiGet(List.of(READY_KEY, GENERATION_KEY));
+            if (state == null || state.get(0) == null) {
+                discardFilter();
+                return;
+            }
+            generation = parseGeneration(state.get(1));
+            ScanOptions options = ScanOptions.scanOptions().count(BACKFILL_PAGE_SIZE).build();
+            try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(INDEX_KEY, options)) {
+                while (cursor.hasNext()) {
+                    next.put((String) cursor.next().getKey());
+                    count++;
+                }
+            }
+        } catch (DataAccessException e) {
+            // 다음 확인 주기에 재시도
+            log.warn("초대코드 Bloom Filter 생성 실패", e);
+            discardFilter();
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (building != next) {
+                return; // 생성 중 Redis 오류로 버려짐
+            }
+            validCodes = next;
+            coveredGeneration = generation;
+            receivedGenerations.clear();
+            buildingGenerations.forEach(this::advanceGeneration);
+            building = null;
+            buildingGenerations = null;
+            laggingGeneration = -1;
+            trustedUntil = System.nanoTime() + filterTrustNanos;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("초대코드 Bloom Filter 생성: {}개 (세대 {})", count, generation);
+    }
+
+    private void addValidCode(String code) {
+        unknownCodes.invalidate(code);
+        lock.lock();
+        try {
+            if (validCodes != null) {
+                validCodes.put(code);
+            }
+            if (building != null) {
+                building.put(code);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markGeneration(long generation) {
+        lock.lock();
+        try {
+            if (buildingGenerations != null) {
+                buildingGenerations.add(generation);
+            }
+            advanceGeneration(generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 락 안에서 호출: 받은 세대를 기록하고 이어지는 만큼 covered 전진 (메시지 순서가 세대 순서와 다를 수 있음)
+    private void advanceGeneration(long generation) {
+        if (generation <= coveredGeneration) {
+            return;
+        }
+        receivedGenerations.add(generation);
+        while (!receivedGenerations.isEmpty() && receivedGenerations.first() == coveredGeneration + 1) {
+            coveredGeneration = receivedGenerations.pollFirst();
+        }
+    }
+
+    // 필터를 믿을 수 없음 → 버리고 조회는 Redis/DB로 (다음 확인 때 다시 생성)
+    private void discardFilter() {
+        if (validCodes == null && building == null) {
+            return; // Redis 장애 중 요청마다 락을 잡지 않도록 (생성 중인 필터는 교체 전에 다시 확인)
+        }
+        lock.lock();
+        try {
+            validCodes = null;
+            building = null;
+            buildingGenerations = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long parseGeneration(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private void removeReadyQuietly() {
+        try {
+            redisTemplate.delete(READY_KEY);
+        } catch (DataAccessException ignored) {
+            // Redis 장애 중이면 조회도 DB로 감
+        }
+    }
+
+    private static Counter resolveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("team.invite.resolve").tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.budongsan.api.domain.team.invite;
+
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 초대코드 풀 (미리 중복 확인을 마친 코드 모음)
+ *
+ * 팀 생성 시 코드를 즉석에서 만들면 중복이 저장(flush) 시점의 유니크 제약 위반으로만 드러남
+ * → 미리 후보를 만들어 DB에 없는 것만 Redis SET "INVITE:POOL"에 채워두고
+ * → 팀 생성 시 SPOP으로 하나 꺼냄 (원자적 → 여러 서버가 같은 코드를 받지 않음)
+ *
+ * 채우기: refill-interval마다 풀 크기가 low-watermark 아래면 size까지 채움
+ * (후보 중복 확인은 IN 쿼리 1번, SET이라 풀 안의 중복도 자동 제거)
+ *
+ * 풀이 비었거나 Redis 장애 시에는 즉석 생성 + DB 존재 확인으로 대체
+ */
+@Slf4j
+@Component
+public class TeamInviteCodePool {
+
+    private static final String POOL_KEY = "INVITE:POOL";
+    private static final int MAX_FALLBACK_ATTEMPTS = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TeamRepository teamRepository;
+    private final int poolSize;
+    private final int lowWatermark;
+
+    public TeamInviteCodePool(
+            RedisTemplate<String, String> redisTemplate,
+            TeamRepository teamRepository,
+            @Value("${team.invite-code.pool-size:1000}") int poolSize,
+            @Value("${team.invite-code.low-watermark:200}") int lowWatermark
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.teamRepository = teamRepository;
+        this.poolSize = poolSize;
+        this.lowWatermark = lowWatermark;
+    }
+
+    /**
+     * 초대코드 발급 (풀에서 꺼냄)
+     */
+    public String allocate() {
+        try {
+            String code = redisTemplate.opsForSet().pop(POOL_KEY);
+            if (code != null) {
+                return code;
+            }
+        } catch (DataAccessException e) {
+            log.warn("초대코드 풀 조회 실패, 즉석 생성", e);
+        }
+        return generateChecked();
+    }
+
+    /**
+     * 풀 채우기 (기동 직후 + 주기적으로)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${team.invite-code.refill-interval:30000}")
+    public void refill() {
+        try {
+            Long size = redisTemplate.opsForSet().size(POOL_KEY);
+            long current = size != null ? size : 0;
+            if (current >= lowWatermark) {
+                return;
+            }
+
+            Set<String> candidates = new HashSet<>();
+            while (candidates.size() < poolSize - current) {
+                candidates.add(InviteCodes.generate());
+            }
+            teamRepository.findExistingInviteCodes(candidates).forEach(candidates::remove);
+            if (!candidates.isEmpty()) {
+                redisTemplate.opsForSet().add(POOL_KEY, candidates.toArray(String[]::new));
+            }
+        } catch (DataAccessException e) {
+            log.warn("초대코드 풀 채우기 실패", e);
+        }
+    }
+
+    // 풀을 못 쓸 때: 만들고 DB에 없는지 하나씩 확인
+    private String generateChecked() {
+        for (int attempt = 0; attempt < MAX_FALLBACK_ATTEMPTS; attempt++) {
+            String code = InviteCodes.generate();
+            if (teamRepository.findExistingInviteCodes(List.of(code)).isEmpty()) {
+                return code;
+            }
+        }
+        // 31^8 공간에서 10번 연속 충돌은 사실상 발생하지 않음
+        throw new IllegalStateException("초대코드 생성 실패");
+    }
+}
@@ -1,20 +1,18 @@
 package com.budongsan.api.domain.team.repository;
 
-import com.budongsan.core.domain.member.Member;
 import com.budongsan.core.domain.team.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
  * 팀 Repository
  */
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
 
     // 초대코드로 팀 조회 (팀 가입 시 사용)
     Optional<Team> findByInviteCode(String inviteCode);
 
-    // 팀장이 만든 팀 목록 조회
-    List<Team> findByLeader(Member leader);
+    // 팀장 본인 팀인지 확인 (엔티티 로딩 없이 존재 여부만)
+    boolean existsByIdAndLeaderId(Long id, Long leaderId);
 }
@@ -0,0 +1,26 @@
+package com.budongsan.api.domain.team.repository;
+
+import com.budongsan.api.domain.team.dto.TeamInviteCode;
+import com.budongsan.api.domain.team.dto.TeamResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 팀 Repository 커스텀 쿼리 (QueryDSL 구현 → TeamRepositoryImpl)
+ */
+public interface TeamRepositoryCustom {
+
+    // 팀장이 만든 팀 목록 (팀장 이름 + 팀원 수까지 쿼리 1번)
+    List<TeamResponse> findTeamResponsesByLeaderId(Long leaderId);
+
+    // 팀 1개 조회 (팀장 이름 + 팀원 수까지 쿼리 1번)
+    Optional<TeamResponse> findTeamResponseById(Long teamId);
+
+    // 후보 초대코드 중 이미 사용 중인 것 (IN 쿼리 1번)
+    List<String> findExistingInviteCodes(Collection<String> inviteCodes);
+
+    // 초대코드 색인 채우기용 (id 순 keyset 페이지)
+    List<TeamInviteCode> findInviteCodes(Long cursor, int limit);
+}
@@ -0,0 +1,85 @@
+package com.budongsan.api.domain.team.repository;
+
+import com.budongsan.api.domain.team.dto.TeamInviteCode;
+import com.budongsan.api.domain.team.dto.TeamResponse;
+import com.budongsan.core.domain.member.QMember;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.budongsan.core.domain.team.QTeam.team;
+
+/**
+ * 팀 Repository QueryDSL 구현체
+ *
+ * TeamResponse.from(team) 방식은 팀마다 팀장 지연 로딩 + 팀원 컬렉션 전체 로딩(N+1)이 발생
+ * → DTO 프로젝션 + GROUP BY COUNT 로 SQL 한 번에 필요한 값만 조회
+ *
+ * select t.id, t.name, t.invite_code, l.name, count(m.id)
+ * from team t
+ *   join member l on l.id = t.leader_id
+ *   left join member m on m.team_id = t.id
+ * where ...
+ * group by t.id, t.name, t.invite_code, l.name
+ */
+@RequiredArgsConstructor
+public class TeamRepositoryImpl implements TeamRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QMember leader = new QMember("leader");
+    private static final QMember teamMember = new QMember("teamMember");
+
+    @Override
+    public List<TeamResponse> findTeamResponsesByLeaderId(Long leaderId) {
+        return selectTeamResponse(leader.id.eq(leaderId))
+                .orderBy(team.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<TeamResponse> findTeamResponseById(Long teamId) {
+        return Optional.ofNullable(selectTeamResponse(team.id.eq(teamId)).fetchOne());
+    }
+
+    @Override
+    public List<String> findExistingInviteCodes(Collection<String> inviteCodes) {
+        return queryFactory
+                .select(team.inviteCode)
+                .from(team)
+                .where(team.inviteCode.in(inviteCodes))
+                .fetch();
+    }
+
+    @Override
+    public List<TeamInviteCode> findInviteCodes(Long cursor, int limit) {
+        return queryFactory
+                .select(Projections.constructor(TeamInviteCode.class, team.id, team.inviteCode))
+                .from(team)
+                .where(cursor != null ? team.id.gt(cursor) : null)
+                .orderBy(team.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<TeamResponse> selectTeamResponse(Predicate condition) {
+        return queryFactory
+                .select(Projections.constructor(TeamResponse.class,
+                        team.id,
+                        team.name,
+                        team.inviteCode,
+                        leader.name,
+                        teamMember.id.count()))
+                .from(team)
+                .join(team.leader, leader)
+                .leftJoin(team.members, teamMember)
+                .where(condition)
+                .groupBy(team.id, team.name, team.inviteCode, leader.name);
+    }
+}
@@ -0,0 +1,54 @@
+package com.budongsan.api.domain.team.service;
+
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 단위 데이터(매물 등) 접근 권한 확인
+ *
+ * - MEMBER: 소속 팀만 (팀 id는 Access Token에서, 다른 팀을 지정하면 거부)
+ * - LEADER: 본인이 만든 팀만 (요청에 teamId 지정, 존재 여부 쿼리 1번)
+ * - ADMIN : 모든 팀 (요청에 teamId 지정)
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamAccessResolver {
+
+    private final TeamRepository teamRepository;
+
+    /**
+     * 요청 대상 팀 id 결정 + 권한 확인
+     *
+     * @param teamId 요청에서 지정한 팀 (팀원은 생략 가능)
+     */
+    public Long resolveTeamId(LoginMember loginMember, Long teamId) {
+        switch (loginMember.role()) {
+            case MEMBER -> {
+                if (loginMember.teamId() == null
+                        || (teamId != null && !teamId.equals(loginMember.teamId()))) {
+                    throw new BusinessException(ErrorCode.FORBIDDEN);
+                }
+                return loginMember.teamId();
+            }
+            case LEADER -> {
+                if (teamId == null) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT);
+                }
+                if (!teamRepository.existsByIdAndLeaderId(teamId, loginMember.id())) {
+                    throw new BusinessException(ErrorCode.FORBIDDEN);
+                }
+                return teamId;
+            }
+            default -> {
+                if (teamId == null) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT);
+                }
+                return teamId;
+            }
+        }
+    }
+}
@@ -1,47 +1,87 @@
 package com.budongsan.api.domain.team.service;
 
+import com.budongsan.api.domain.member.dto.TokenResponse;
 import com.budongsan.api.domain.member.repository.MemberRepository;
+import com.budongsan.api.domain.team.activity.TeamActivityHub;
 import com.budongsan.api.domain.team.dto.TeamCreateRequest;
+import com.budongsan.api.domain.team.dto.TeamMemberResponse;
 import com.budongsan.api.domain.team.dto.TeamResponse;
+import com.budongsan.api.domain.team.invite.TeamInviteCodeIndex;
+import com.budongsan.api.domain.team.invite.TeamInviteCodePool;
 import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.LoginMember;
 import com.budongsan.core.domain.member.Member;
 import com.budongsan.core.domain.member.MemberRole;
 import com.budongsan.core.domain.team.Team;
+import com.budongsan.core.domain.team.TeamCreatedEvent;
+import com.budongsan.core.domain.team.TeamMemberJoinedEvent;
 import com.budongsan.core.exception.BusinessException;
 import com.budongsan.core.exception.ErrorCode;
+import com.budongsan.core.response.ApiResponseStreamWriter;
+import com.budongsan.core.response.CursorResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-
+import java.util.stream.Stream;
+
+/**
+ * 팀 서비스
+ *
+ * 회원 id / 권한 / 팀 정보는 LoginMember(Access Token)에서 바로 꺼내 씀
+ * → 매 요청마다 memberRepository.findByEmail(...) 로 회원을 조회하지 않음
+ */
 @Service
 @RequiredArgsConstructor
 public class TeamService {
 
     private final TeamRepository teamRepository;
     private final MemberRepository memberRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TeamInviteCodePool teamInviteCodePool;
+    private final TeamInviteCodeIndex teamInviteCodeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamAccessResolver teamAccessResolver;
+    private final TeamActivityHub teamActivityHub;
+    private final ApiResponseStreamWriter apiResponseStreamWriter;
+
+    // 팀원 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 전체 목록 스트리밍 시 DB에서 한 번에 받아올 행 수
+    private static final int STREAM_FETCH_SIZE = 500;
 
     /**
      * 팀 생성 (LEADER만 가능)
      * 팀장은 여러 팀 생성 가능
      */
     @Transactional
-    public TeamResponse createTeam(String leaderEmail, TeamCreateRequest request) {
-        Member leader = memberRepository.findByEmail(leaderEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
+    public TeamResponse createTeam(LoginMember loginMember, TeamCreateRequest request) {
         // LEADER 권한 체크
-        if (leader.getRole() != MemberRole.LEADER) {
+        if (loginMember.role() != MemberRole.LEADER) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        Team team = Team.builder()
+        // 저장에는 leader_id FK만 필요해 프록시 참조로 세팅
+        // 응답의 팀장 이름(TeamResponse.from) 때문에 프록시 초기화 SELECT 1번은 발생 (LoginMember에 이름이 없음)
+        Member leader = memberRepository.getReferenceById(loginMember.id());
+
+        Team team = teamRepository.save(Team.builder()
                 .name(request.name())
                 .leader(leader)
-                .build();
+                .inviteCode(teamInviteCodePool.allocate()) // 중복 확인을 마친 풀에서 발급
+                .build());
+        eventPublisher.publishEvent(new TeamCreatedEvent(team.getId(), team.getInviteCode())); // 커밋 후 초대코드 색인 등록
 
-        return TeamResponse.from(teamRepository.save(team));
+        return TeamResponse.from(team);
     }
 
     /**
@@ -50,63 +90,104 @@ public class TeamService {
      * - MEMBER: 내가 속한 팀
      */
     @Transactional(readOnly = true)
-    public List<TeamResponse> getMyTeams(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        if (member.getRole() == MemberRole.LEADER) {
-            // 팀장: 내가 만든 팀 목록
-            return teamRepository.findByLeader(member)
-                    .stream()
-                    .map(TeamResponse::from)
-                    .toList();
+    public List<TeamResponse> getMyTeams(LoginMember loginMember) {
+        if (loginMember.role() == MemberRole.LEADER) {
+            // 팀장: 내가 만든 팀 목록 (팀 수와 상관없이 쿼리 1번)
+            return teamRepository.findTeamResponsesByLeaderId(loginMember.id());
         } else {
             // 팀원: 내가 속한 팀
-            if (member.getTeam() == null) return List.of();
-            return List.of(TeamResponse.from(member.getTeam()));
+            if (loginMember.teamId() == null) return List.of();
+            return teamRepository.findTeamResponseById(loginMember.teamId())
+                    .map(List::of)
+                    .orElse(List.of());
         }
     }
 
     /**
      * 팀 가입 (MEMBER만 가능, 초대코드 입력)
+     * 가입 후 팀 정보(tid)가 담긴 새 Access Token 반환
+     *
+     * 초대코드 확인은 트랜잭션 밖에서 먼저 → 틀린 코드(무작위 대입 포함)는 DB 커넥션도 잡지 않음
      */
-    @Transactional
-    public void joinTeam(String memberEmail, String inviteCode) {
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
+    public TokenResponse joinTeam(LoginMember loginMember, String inviteCode) {
         // MEMBER 권한 체크
-        if (member.getRole() != MemberRole.MEMBER) {
+        if (loginMember.role() != MemberRole.MEMBER) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        // 이미 팀에 속해있으면 거부
-        if (member.getTeam() != null) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT);
-        }
+        // 초대코드 → 팀 id (Redis 색인, 없는 코드는 서버 메모리에서 바로 거절)
+        Long teamId = teamInviteCodeIndex.resolve(inviteCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
+
+        Member member = transactionTemplate.execute(status -> {
+            // 팀 소속 여부는 토큰이 아닌 DB 기준으로 확인 (토큰 발급 이후 바뀌었을 수 있음)
+            Member found = memberRepository.findById(loginMember.id())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+
+            // 이미 팀에 속해있으면 거부
+            if (found.getTeam() != null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+
+            // 프록시 참조만 얻음 (SELECT 없이 team_id FK만 세팅)
+            found.joinTeam(teamRepository.getReferenceById(teamId));
+            eventPublisher.publishEvent(new TeamMemberJoinedEvent(teamId, found.getId(), found.getName())); // 커밋 후 팀 실시간 스트림으로 전송
+            return memberRepository.save(found); // 변경 감지로도 반영되지만, MemberChangedEvent 발행(캐시 무효화)을 위해 호출
+        });
+
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                member.getId(), member.getEmail(), member.getRole(), teamId);
+        return new TokenResponse(accessToken, null);
+    }
+
+    /**
+     * 팀 실시간 활동 스트림 (SSE)
+     * 팀원 가입, 매물 등록/수정/상태 변경/가져오기를 이벤트로 전송
+     *
+     * 권한 확인은 스트림 시작 전에 (실패 시 일반 JSON 에러 응답)
+     */
+    public SseEmitter subscribeActivity(LoginMember loginMember, Long teamId) {
+        return teamActivityHub.subscribe(teamAccessResolver.resolveTeamId(loginMember, teamId));
+    }
+
+    /**
+     * 팀원 목록 조회 (LEADER만 가능, 커서 기반 페이지)
+     * - 팀장 확인: 존재 여부 쿼리 1번 (팀/팀장 엔티티 로딩 없음)
+     * - 목록: id 순 keyset 조회, 필요한 컬럼만 프로젝션
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<TeamMemberResponse> getTeamMembers(LoginMember loginMember, Long teamId, Long cursor, int size) {
+        checkTeamLeader(loginMember, teamId);
 
-        // 초대코드로 팀 조회
-        Team team = teamRepository.findByInviteCode(inviteCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
 
-        member.joinTeam(team);
+        // 다음 페이지 여부 확인을 위해 1개 더 조회
+        List<TeamMemberResponse> fetched = memberRepository.findTeamMembers(teamId, cursor, pageSize + 1);
+        return CursorResponse.of(fetched, pageSize, TeamMemberResponse::id);
     }
 
     /**
-     * 팀원 목록 조회 (LEADER만 가능)
+     * 팀원 전체 목록 스트리밍 (LEADER만 가능)
+     * DB 커서 → 응답 스트림으로 바로 씀 (목록을 List로 모으지 않음), 응답 모양은 ApiResponse와 같음
+     *
+     * 커서는 트랜잭션 안에서만 유지되므로 응답을 다 쓸 때까지 읽기 전용 트랜잭션을 잡고 있음
      */
     @Transactional(readOnly = true)
-    public List<String> getTeamMembers(String leaderEmail, Long teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
+    public void streamTeamMembers(LoginMember loginMember, Long teamId, OutputStream out) throws IOException {
+        checkTeamLeader(loginMember, teamId);
 
-        // 팀장 본인 팀인지 확인
-        if (!team.getLeader().getEmail().equals(leaderEmail)) {
-            throw new BusinessException(ErrorCode.FORBIDDEN);
+        try (Stream<TeamMemberResponse> members = memberRepository.streamTeamMembers(teamId, STREAM_FETCH_SIZE)) {
+            apiResponseStreamWriter.writeSuccess(out, "요청이 성공적으로 처리되었습니다.", members);
         }
+    }
 
-        return team.getMembers().stream()
-                .map(m -> m.getName() + " (" + m.getEmail() + ")")
-                .toList();
+    // 팀장 본인 팀인지 확인
+    private void checkTeamLeader(LoginMember loginMember, Long teamId) {
+        if (!teamRepository.existsByIdAndLeaderId(teamId, loginMember.id())) {
+            // 실패한 경우에만 원인 구분 (없는 팀 vs 남의 팀)
+            throw new BusinessException(teamRepository.existsById(teamId)
+                    ? ErrorCode.FORBIDDEN
+                    : ErrorCode.PROPERTY_NOT_FOUND);
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.budongsan.api.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화
+ *
+ * 실행기는 Spring Boot 기본 applicationTaskExecutor 사용
+ * - 기본: 플랫폼 스레드 풀 (spring.task.execution.pool.*)
+ * - virtual 프로필: 작업마다 가상 스레드 (spring.threads.virtual.enabled=true)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
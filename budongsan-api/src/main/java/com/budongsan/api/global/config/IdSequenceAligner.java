@@ -0,0 +1,67 @@
+package com.budongsan.api.global.config;
+
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.team.Team;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * member_seq / team_seq 시작값을 기존 행 뒤로 맞춤 (기동 시, 몇 번 실행해도 같은 결과)
+ *
+ * id가 IDENTITY였던 DB에 ddl-auto update로 시퀀스를 만들면 1부터 시작 → 기존 id와 충돌
+ * pooled 할당은 nextval 값을 확보 구간의 끝으로 씀 (nextval = v → v - 49 ~ v)
+ * → 다음 nextval이 max(id) + allocationSize 이상이어야 구간 전체가 기존 id 뒤
+ *   (setval(max(id)) 후 ALTER ... RESTART 등으로 nextval = max(id) + 1이 되면 구간이 기존 id와 겹침)
+ *
+ * 다음 nextval이 이미 충분하면 아무것도 안 함 → 재기동/여러 서버 동시 기동에도 시퀀스를 되돌리지 않음
+ * 테이블이 비어 있으면(새 DB) 건너뜀
+ *
+ * 요청을 받기 전에 끝나도록 빈 초기화 때 실행 (ApplicationRunner는 웹 서버 시작 후 실행됨)
+ * entityManagerFactory 뒤에 초기화 → ddl-auto로 시퀀스가 만들어진 뒤
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceAligner {
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("member", "member_seq", Member.ID_ALLOCATION_SIZE),
+            new IdSequence("team", "team_seq", Team.ID_ALLOCATION_SIZE)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(IdSequence sequence) {
+        // setval(..., false) → 다음 nextval이 정확히 그 값 (확보 구간 max(id) + 1 ~ max(id) + allocationSize)
+        String sql = """
+                SELECT setval('%1$s', t.max_id + %3$d, false)
+                FROM (SELECT MAX(id) AS max_id FROM %2$s) t,
+                     (SELECT CASE WHEN is_called THEN last_value + %3$d ELSE last_value END AS next_value
+                      FROM %1$s) s
+                WHERE t.max_id IS NOT NULL AND s.next_value < t.max_id + %3$d
+                """.formatted(sequence.name(), sequence.table(), sequence.allocationSize());
+        List<Long> updated = jdbcTemplate.queryForList(sql, Long.class);
+        if (!updated.isEmpty()) {
+            log.info("id 시퀀스 시작값 조정: {} → 다음 값 {}", sequence.name(), updated.getFirst());
+        }
+    }
+
+    /**
+     * @param allocationSize 엔티티 @SequenceGenerator의 allocationSize (= 시퀀스 INCREMENT BY)
+     */
+    private record IdSequence(String table, String name, int allocationSize) {}
+}
@@ -0,0 +1,27 @@
+package com.budongsan.api.global.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * QueryDSL 설정
+ *
+ * JPAQueryFactory → 타입 안전한 JPQL 작성 도구
+ * Repository 구현체(XxxRepositoryImpl)에서 주입받아 사용
+ *
+ * EntityManager는 트랜잭션마다 실제 객체로 바뀌는 프록시라 빈 하나를 공유해도 안전
+ */
+@Configuration
+public class QueryDslConfig {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Bean
+    public JPAQueryFactory jpaQueryFactory() {
+        return new JPAQueryFactory(entityManager);
+    }
+}
@@ -2,8 +2,11 @@ package com.budongsan.api.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -33,4 +36,62 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * Refresh Token 회전 Lua 스크립트 (resources/redis/rotate-refresh-token.lua)
+     * 비교 → 새 토큰 저장 → 재사용 감지를 Redis 안에서 한 번에 실행 (왕복 1회, 경쟁 조건 없음)
+     */
+    @Bean
+    public RedisScript<Long> rotateRefreshTokenScript() {
+        return RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), Long.class);
+    }
+
+    /**
+     * 회원 캐시 L2 조건부 저장 / 무효화 Lua 스크립트 (resources/redis/member-cache-*.lua)
+     * DB 조회 도중 무효화된 오래된 스냅샷이 L2에 다시 써지지 않도록 버전을 비교
+     */
+    @Bean
+    public RedisScript<Long> memberCacheWriteScript() {
+        return RedisScript.of(new ClassPathResource("redis/member-cache-write.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> memberCacheEvictScript() {
+        return RedisScript.of(new ClassPathResource("redis/member-cache-evict.lua"), Long.class);
+    }
+
+    /**
+     * 가져오기 실행 잠금 연장 / 해제 Lua 스크립트 (resources/redis/import-lock-*.lua)
+     * 잠금 값(서버 id) 비교와 연장/삭제를 한 번에 → 만료 후 다른 서버가 가져간 잠금을 건드리지 않음
+     */
+    @Bean
+    public RedisScript<Long> importLockExtendScript() {
+        return RedisScript.of(new ClassPathResource("redis/import-lock-extend.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> importLockReleaseScript() {
+        return RedisScript.of(new ClassPathResource("redis/import-lock-release.lua"), Long.class);
+    }
+
+    /**
+     * 초대코드 조회 Lua 스크립트 (resources/redis/invite-code-resolve.lua)
+     * HGET + 색인 준비 여부(EXISTS)를 왕복 1회로
+     */
+    @Bean
+    public RedisScript<Long> inviteCodeResolveScript() {
+        return RedisScript.of(new ClassPathResource("redis/invite-code-resolve.lua"), Long.class);
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 여러 API 서버가 같은 채널을 구독해서 캐시 무효화 메시지를 함께 받음
+     * (리스너 등록은 각 컴포넌트에서 addMessageListener로 직접)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
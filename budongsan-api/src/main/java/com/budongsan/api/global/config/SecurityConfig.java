@@ -2,6 +2,9 @@ package com.budongsan.api.global.config;
 
 import com.budongsan.api.global.security.JwtAuthenticationFilter;
 import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,7 +30,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // BCrypt 강도 (2^10 라운드, Spring 기본값) - 벤치마크에서도 같은 값 사용
+    public static final int BCRYPT_STRENGTH = 10;
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -41,6 +49,8 @@ public class SecurityConfig {
 
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인증/인가를 통과함)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 없이 접근 가능한 URL
                         .requestMatchers(
                                 "/api/auth/**",              // 회원가입, 로그인
@@ -55,7 +65,9 @@ public class SecurityConfig {
                                 "/",                         // 메인 페이지
                                 "/login",                    // 웹 로그인 페이지
                                 "/signup",                   // 웹 회원가입 페이지
-                                "/dashboard"                 // 대시보드 (토큰은 JS에서 검증)
+                                "/dashboard",                // 대시보드 (토큰은 JS에서 검증)
+                                "/actuator/health",          // 헬스 체크 (관리 포트 전용)
+                                "/actuator/prometheus"       // Prometheus 수집 (관리 포트 전용)
                         ).permitAll()
                         // ADMIN만 접근 가능
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -67,7 +79,7 @@ public class SecurityConfig {
 
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 추가
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
@@ -80,6 +92,6 @@ public class SecurityConfig {
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(BCRYPT_STRENGTH);
     }
 }
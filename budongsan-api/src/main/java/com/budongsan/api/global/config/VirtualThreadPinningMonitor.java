@@ -0,0 +1,92 @@
+package com.budongsan.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지 (virtual 프로필에서만 동작)
+ *
+ * Java 21에서 가상 스레드가 synchronized 블록 안에서 블로킹(JDBC 드라이버 I/O 등)되면
+ * 캐리어(플랫폼) 스레드를 놓지 못하고 함께 묶임 → 동시 처리량이 캐리어 수로 제한됨
+ *
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 앱 안에서 스트리밍으로 구독해서
+ * - jvm.virtual.pinned 타이머 (source = pinning을 일으킨 첫 번째 비 JDK 클래스)
+ * - source별 최초 1회 WARN 로그 (스택 트레이스 포함)
+ * 로 보고함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSources = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-threshold:20ms}") Duration threshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (threshold={})", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String source = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(type -> JDK_PACKAGES.stream().noneMatch(type::startsWith))
+                .findFirst()
+                .orElse("unknown");
+
+        Timer.builder("jvm.virtual.pinned")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        // 같은 원인은 처음 한 번만 스택과 함께 남김 (로그 폭주 방지)
+        if (reportedSources.add(source)) {
+            String stack = frames.stream()
+                    .limit(20)
+                    .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining("\n"));
+            log.warn("가상 스레드 pinning 감지 ({}ms, source={})\n{}", event.getDuration().toMillis(), source, stack);
+        }
+    }
+}
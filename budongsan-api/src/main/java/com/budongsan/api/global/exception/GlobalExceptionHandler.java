@@ -1,13 +1,22 @@
 package com.budongsan.api.global.exception;
 
 import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
 import com.budongsan.core.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 전역 예외 처리 클래스
  *
@@ -17,20 +26,44 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * Controller에서 예외 발생
  *   → GlobalExceptionHandler가 잡음
  *   → ApiResponse.fail(...) 형태로 응답
+ *
+ * ErrorCode 응답 본문은 기동 시 한 번만 JSON 직렬화해 두고 byte[] 그대로 씀
+ * → 에러마다 ApiResponse 생성 + Jackson 직렬화 없음 (잘못된 토큰/비밀번호가 몰릴 때 CPU/할당 절약)
+ * → 메시지가 ErrorCode에 고정이라 가능 (유효성 검사 실패는 필드별 메시지라 매번 직렬화)
+ *
+ * 메트릭: api.errors{code=ErrorCode 이름} → 에러 코드별 발생 횟수 (rate()로 코드별 초당 발생 수)
+ * (유효성 검사 실패 = INVALID_INPUT, 예상치 못한 예외 = INTERNAL_SERVER_ERROR)
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // ErrorCode 개수만큼 미리 등록 → 예외마다 레지스트리 조회 없음
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    // ErrorCode별 응답 본문 (ApiResponse.fail(message) JSON)
+    private final Map<ErrorCode, byte[]> errorBodies = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("api.errors")
+                    .tag("code", errorCode.name())
+                    .register(meterRegistry));
+            try {
+                errorBodies.put(errorCode, objectMapper.writeValueAsBytes(ApiResponse.fail(errorCode.getMessage())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 직렬화 실패: " + errorCode, e);
+            }
+        }
+    }
+
     /**
      * BusinessException 처리
      * ex) throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND)
      * → 404 { "success": false, "message": "존재하지 않는 회원입니다." }
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<?>> handleBusinessException(BusinessException e) {
-        return ResponseEntity
-                .status(e.getErrorCode().getHttpStatus())  // ErrorCode에 담긴 HTTP 상태코드 사용
-                .body(ApiResponse.fail(e.getMessage()));
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
+        return errorResponse(e.getErrorCode());
     }
 
     /**
@@ -40,6 +73,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<?>> handleValidationException(MethodArgumentNotValidException e) {
+        errorCounters.get(ErrorCode.INVALID_INPUT).increment();
+
         // 첫 번째 에러 필드의 메시지를 가져옴
         FieldError fieldError = e.getBindingResult().getFieldErrors().get(0);
         String message = fieldError.getField() + ": " + fieldError.getDefaultMessage();
@@ -54,9 +89,18 @@ public class GlobalExceptionHandler {
      * → 500 { "success": false, "message": "서버 내부 오류가 발생했습니다." }
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<?>> handleException(Exception e) {
+    public ResponseEntity<byte[]> handleException(Exception e) {
+        return errorResponse(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    // 미리 직렬화한 본문 그대로 응답 (Content-Type을 지정해서 byte[]도 JSON으로 나감)
+    private ResponseEntity<byte[]> errorResponse(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+        byte[] body = errorBodies.get(errorCode);
         return ResponseEntity
-                .internalServerError()
-                .body(ApiResponse.fail("서버 내부 오류가 발생했습니다."));
+                .status(errorCode.getHttpStatus())  // ErrorCode에 담긴 HTTP 상태코드 사용
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .body(body);
     }
 }
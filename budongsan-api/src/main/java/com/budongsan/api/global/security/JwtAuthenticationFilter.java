@@ -1,20 +1,18 @@
 package com.budongsan.api.global.security;
 
-import com.budongsan.core.domain.member.MemberRole;
 import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증 필터
@@ -23,12 +21,39 @@ import java.util.List;
  * OncePerRequestFilter → 요청당 딱 한 번만 실행
  *
  * 흐름:
- * 요청 → 필터 → 토큰 추출 → 검증 → SecurityContext에 인증 정보 저장 → Controller
+ * 요청 → 필터 → 토큰 추출 → 검증 → 폐기 여부 확인 → SecurityContext에 인증 정보 저장 → Controller
+ *
+ * 메트릭: auth.filter{outcome=valid/expired/invalid/revoked}
+ * → 토큰이 있는 요청의 인증 처리 시간만 (Controller 실행 시간 제외)
  */
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+
+    // 태그 조합이 고정이라 미리 만들어둠 → 요청마다 레지스트리 조회 없음
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+    private final Timer revokedTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   TokenRevocationService tokenRevocationService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.validTimer = outcomeTimer(meterRegistry, "valid");
+        this.expiredTimer = outcomeTimer(meterRegistry, "expired");
+        this.invalidTimer = outcomeTimer(meterRegistry, "invalid");
+        this.revokedTimer = outcomeTimer(meterRegistry, "revoked");
+    }
+
+    private static Timer outcomeTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.filter")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,27 +64,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 2. 토큰이 있으면 검증 후 SecurityContext에 저장
         if (token != null) {
+            long start = System.nanoTime();
+            Timer outcome = invalidTimer;
             try {
-                jwtTokenProvider.validateToken(token);
+                // 검증 + Claims 추출을 한 번에 (파싱 1회, 캐시 히트 시 0회)
+                VerifiedClaims claims = jwtTokenProvider.verify(token);
+
+                // Refresh Token으로는 API 호출 불가
+                if (!claims.isAccessToken()) {
+                    throw new BusinessException(ErrorCode.INVALID_TOKEN);
+                }
 
-                String email = jwtTokenProvider.getEmail(token);
-                MemberRole role = jwtTokenProvider.getRole(token);
+                // 로그아웃으로 폐기된 토큰 차단 (대부분 로컬 Bloom Filter에서 끝남)
+                if (tokenRevocationService.isRevoked(claims)) {
+                    outcome = revokedTimer;
+                    throw new BusinessException(ErrorCode.INVALID_TOKEN);
+                }
 
-                // Spring Security가 인식할 수 있는 인증 객체 생성
-                // "ROLE_" 접두사 필수 (Spring Security 규칙)
-                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
-                var userDetails = new User(email, "", authorities);
-                var authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, authorities
-                );
+                // Spring Security가 인식할 수 있는 인증 객체 생성 (회원 id/권한/팀 포함)
+                var authentication = new MemberAuthentication(claims);
 
                 // SecurityContext에 인증 정보 저장
                 // → 이후 Controller에서 @AuthenticationPrincipal로 꺼낼 수 있음
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = validTimer;
 
             } catch (BusinessException e) {
                 // 토큰 만료/위변조 → 인증 정보 없이 진행 (SecurityConfig에서 걸러짐)
+                if (e.getErrorCode() == ErrorCode.EXPIRED_TOKEN) {
+                    outcome = expiredTimer;
+                }
                 SecurityContextHolder.clearContext();
+            } finally {
+                outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             }
         }
 
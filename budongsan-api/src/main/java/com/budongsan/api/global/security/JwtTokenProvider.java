@@ -3,14 +3,22 @@ package com.budongsan.api.global.security;
 import com.budongsan.core.domain.member.MemberRole;
 import com.budongsan.core.exception.BusinessException;
 import com.budongsan.core.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 / 검증 / 파싱 담당
@@ -20,10 +28,22 @@ import java.util.Date;
  * eyJ... . eyJ... . abc123
  *
  * Payload에 담는 정보 (Claims):
+ * - jti   : 토큰 고유 id (UUID, 로그아웃 시 폐기 목록에 등록)
  * - sub   : 이메일 (subject)
+ * - mid   : 회원 id
  * - role  : 권한 (ADMIN/LEADER/MEMBER)
+ * - tid   : 소속 팀 id (팀원만, 없으면 생략)
  * - iat   : 발급 시간
  * - exp   : 만료 시간
+ *
+ * 검증 흐름:
+ * verify(token) → 캐시 조회 (키 = 토큰 SHA-256)
+ *   → 있으면 서명 검증 생략하고 바로 반환
+ *   → 없으면 파싱 1회 + 서명 검증 후 캐시에 저장 (토큰 만료 시각에 맞춰 자동 제거)
+ *
+ * 메트릭:
+ * - jwt.parse{result=ok/expired/invalid} : 실제 파싱 + 서명 검증 시간 (캐시 미스일 때만)
+ * - cache.gets{cache=jwt.verified}       : 검증 캐시 히트/미스
  */
 @Component
 public class JwtTokenProvider {
@@ -32,26 +52,66 @@ public class JwtTokenProvider {
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 파서는 thread-safe → 매번 만들지 않고 하나를 재사용
+    private final JwtParser parser;
+
+    // 최근 검증된 토큰 캐시 (크기 0이면 캐시 사용 안 함)
+    private final Cache<String, VerifiedClaims> verifiedCache;
+
+    private final Timer parseOk;
+    private final Timer parseExpired;
+    private final Timer parseInvalid;
+
     // application.yml의 jwt.* 값들을 자동 주입
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize,
+            MeterRegistry meterRegistry
     ) {
         // 시크릿 키를 바이트로 변환해서 SecretKey 객체 생성
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedCache = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+        if (verifiedCache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedCache, "jwt.verified");
+        }
+
+        this.parseOk = parseTimer(meterRegistry, "ok");
+        this.parseExpired = parseTimer(meterRegistry, "expired");
+        this.parseInvalid = parseTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer parseTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.parse")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
      * Access Token 생성 (수명 30분)
-     * 이메일과 권한 정보를 토큰에 담음
+     * 회원 id / 이메일 / 권한 / 소속 팀을 토큰에 담음
+     * → 요청마다 회원 DB 조회 없이 인증 정보만으로 처리 가능
      */
-    public String generateAccessToken(String email, MemberRole role) {
+    public String generateAccessToken(Long memberId, String email, MemberRole role, Long teamId) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
+                .claim("mid", memberId)
                 .claim("role", role.name())
+                .claim("tid", teamId)  // null이면 jjwt가 claim 자체를 생략
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
                 .signWith(secretKey)
@@ -61,29 +121,54 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성 (수명 7일)
      * 이메일만 담음 (최소한의 정보)
+     * jti(랜덤 UUID) → 같은 시각에 발급해도 매번 다른 토큰 (회전/재사용 감지에 필요)
      */
     public String generateRefreshToken(String email) {
         return Jwts.builder()
                 .subject(email)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + Claims 추출 (파싱은 최대 1회)
+     * 같은 토큰이 다시 오면 캐시에서 바로 반환 → 서명 검증 생략
+     * 만료/위변조 등 문제 있으면 예외 던짐
+     */
+    public VerifiedClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        if (verifiedCache == null) {
+            return parse(token);
+        }
+
+        String key = TokenDigest.sha256(token);
+        VerifiedClaims cached = verifiedCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedClaims claims = parse(token);
+        verifiedCache.put(key, claims);
+        return claims;
+    }
+
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmail(String token) {
-        return parseClaims(token).getSubject();
+        return verify(token).email();
     }
 
     /**
      * 토큰에서 권한 추출
      */
     public MemberRole getRole(String token) {
-        String role = parseClaims(token).get("role", String.class);
-        return MemberRole.valueOf(role);
+        return verify(token).role();
     }
 
     /**
@@ -91,28 +176,60 @@ public class JwtTokenProvider {
      * 유효하면 true, 만료/위변조 등 문제 있으면 예외 던짐
      */
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * 토큰 파싱 (서명 검증 + Claims 추출)
+     */
+    private VerifiedClaims parse(String token) {
+        long start = System.nanoTime();
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String role = claims.get("role", String.class);
+            VerifiedClaims verified = new VerifiedClaims(
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get("mid", Long.class),
+                    role != null ? MemberRole.valueOf(role) : null,
+                    claims.get("tid", Long.class),
+                    claims.getExpiration().getTime()
+            );
+            parseOk.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
         } catch (ExpiredJwtException e) {
+            parseExpired.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
+            parseInvalid.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
     }
 
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
     /**
-     * 토큰 파싱 (서명 검증 + Claims 추출)
+     * 캐시 항목 수명 = 토큰의 남은 수명
+     * → 만료된 토큰이 캐시에서 통과되는 일이 없음
      */
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedClaims> {
 
-    public long getRefreshTokenExpiration() {
-        return refreshTokenExpiration;
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.remainingMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
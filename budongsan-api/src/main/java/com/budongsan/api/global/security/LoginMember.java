@@ -0,0 +1,22 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.core.domain.member.MemberRole;
+
+/**
+ * 현재 로그인한 회원 정보 (Access Token Claims에서 꺼낸 값)
+ *
+ * Controller에서 @AuthenticationPrincipal LoginMember 로 바로 받아서 사용
+ * → 회원 id / 권한 / 팀을 알기 위해 DB를 다시 조회할 필요 없음
+ *
+ * 주의: teamId는 토큰 발급 시점 기준 (팀 가입 시 새 Access Token을 내려줌)
+ */
+public record LoginMember(
+        Long id,
+        String email,
+        MemberRole role,
+        Long teamId
+) {
+    public static LoginMember from(VerifiedClaims claims) {
+        return new LoginMember(claims.memberId(), claims.email(), claims.role(), claims.teamId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.core.domain.member.MemberRole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 인증 객체 (SecurityContext에 저장됨)
+ *
+ * UsernamePasswordAuthenticationToken + User 조합 대신 사용하는 가벼운 인증 객체
+ * - principal = LoginMember (회원 id, 이메일, 권한, 팀 id)
+ * - claims    = 검증된 Access Token 정보 (jti, 만료 시각)
+ * - 권한 목록은 MemberRole별로 미리 만들어 둔 것을 재사용 (요청마다 새로 만들지 않음)
+ */
+public class MemberAuthentication implements Authentication {
+
+    // "ROLE_" 접두사 필수 (Spring Security 규칙)
+    private static final Map<MemberRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(MemberRole.class);
+
+    static {
+        for (MemberRole role : MemberRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final VerifiedClaims claims;
+    private final LoginMember principal;
+    private boolean authenticated = true;
+
+    public MemberAuthentication(VerifiedClaims claims) {
+        this.claims = claims;
+        this.principal = LoginMember.from(claims);
+    }
+
+    /** 인증에 사용된 Access Token 정보 (jti, 만료 시각 → 로그아웃 시 토큰 폐기에 사용) */
+    public VerifiedClaims getClaims() {
+        return claims;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(principal.role());
+    }
+
+    @Override
+    public LoginMember getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null; // 토큰 검증이 끝났으므로 자격 증명은 들고 있지 않음
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        // 검증된 토큰으로만 생성되므로 외부에서 다시 "인증됨"으로 바꾸는 것은 허용하지 않음
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("MemberAuthentication은 생성 시점에만 인증 상태가 됩니다.");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return principal.email();
+    }
+}
@@ -0,0 +1,194 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱 전용 실행기 (회원가입/로그인)
+ *
+ * BCrypt는 일부러 느린(CPU를 많이 쓰는) 연산이라 요청 스레드에서 바로 돌리면
+ * 로그인이 몰릴 때 모든 코어를 차지해 다른 API(팀, 매물)까지 느려짐
+ *
+ * → 코어 수만큼의 전용 스레드 + 크기 제한 대기열에서만 실행
+ * → 대기열이 꽉 차면 기다리지 않고 바로 AUTH_BUSY(503) 응답 (fail-fast)
+ *
+ * 메트릭:
+ * - password.hash          : 해싱 소요 시간 (percentile histogram)
+ * - password.hash.wait     : 대기열에서 기다린 시간
+ * - password.hash.queue    : 대기열 길이
+ * - password.hash.active   : 실행 중인 해싱 수
+ * - password.hash.rejected : 대기열 초과로 거절된 수
+ */
+@Component
+public class PasswordHasher {
+
+    private static final long BULK_RETRY_MILLIS = 10;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final int bulkParallelism;
+
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hash.threads:0}") int threads,
+            @Value("${security.password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hash.wait-timeout:5000}") long waitTimeoutMillis,
+            @Value("${security.password-hash.bulk-parallelism:0}") int bulkParallelism
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.bulkParallelism = bulkParallelism > 0 ? bulkParallelism : Math.max(1, poolSize / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 꽉 차면 RejectedExecutionException
+        );
+
+        this.hashTimer = Timer.builder("password.hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 암호화 (회원가입)
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 여러 개 암호화 (회원 대량 등록)
+     *
+     * 같은 해싱 풀에서 병렬로 실행하되 동시에 bulk-parallelism개까지만 넣음
+     * → 대기열을 채워 로그인 요청이 AUTH_BUSY로 거절되지 않도록 나머지 스레드는 남겨둠
+     * → 대기열이 꽉 차면 실패하지 않고 잠시 후 다시 넣음 (대량 등록은 기다려도 됨)
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        Semaphore inFlight = new Semaphore(bulkParallelism);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                inFlight.acquire();
+                futures.add(submitBulk(() -> {
+                    try {
+                        return hashTimer.recordCallable(() -> passwordEncoder.encode(rawPassword));
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<String> encoded = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                encoded.add(future.get());
+            }
+            return encoded;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Future<String> submitBulk(Callable<String> task) throws InterruptedException {
+        while (true) {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                Thread.sleep(BULK_RETRY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 비밀번호 검증 (로그인)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 스레드 이름: password-hash-1, password-hash-2 ... (스레드 덤프에서 구분용)
+     */
+    private static class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
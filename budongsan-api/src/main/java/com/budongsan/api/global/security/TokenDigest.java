@@ -0,0 +1,32 @@
+package com.budongsan.api.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 다이제스트 유틸
+ *
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용 (캐시 키, Redis 저장값 등)
+ * → 메모리/Redis에 토큰 원문이 남지 않음
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {}
+
+    /**
+     * SHA-256 → Base64(URL-safe, 패딩 없음) 문자열
+     * ex) "eyJ..." → "3q2-7wX..."
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII)); // JWT는 ASCII만 사용
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 필수 지원 알고리즘이라 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.api.global.util.BloomFilter;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Access Token 폐기 목록 (로그아웃한 토큰을 만료 전까지 차단)
+ *
+ * 저장소:
+ * - Redis ZSET "RVK" (member = jti, score = 토큰 만료 시각) → 모든 서버가 공유하는 원본
+ * - 서버별 Bloom Filter → 요청마다 Redis를 조회하지 않기 위한 로컬 사본
+ *
+ * 흐름:
+ * 로그아웃 → ZADD + "token-revoked" 채널 발행 → 모든 서버가 Bloom Filter에 추가
+ * 요청     → Bloom Filter에 없으면 바로 통과 (대부분), 있을 수도 있으면 Redis ZSCORE로 확인
+ *
+ * Bloom Filter는 삭제가 안 되므로 주기적으로 Redis 원본(만료 안 된 항목만)으로 새로 만듦
+ * → 만료된 jti 정리 + Pub/Sub 메시지 유실 복구
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+
+    public static final String REVOKED_CHANNEL = "token-revoked";
+    private static final String REVOKED_KEY = "RVK";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    // 조회는 락 없이 volatile 읽기, 교체/추가만 락
+    private volatile BloomFilter filter;
+    private BloomFilter building; // 재생성 중인 필터 (재생성 중 들어온 항목도 놓치지 않도록)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TokenRevocationService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.fpp:0.01}") double fpp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃 시)
+     * 토큰이 만료되면 의미가 없으므로 만료 시각까지만 보관
+     *
+     * Redis 장애 시 이 서버 필터에만 남기고 TOKEN_STORE_UNAVAILABLE (다른 서버에는 전파되지 않음)
+     */
+    public void revoke(VerifiedClaims claims) {
+        if (claims.tokenId() == null || claims.remainingMillis() == 0) {
+            return; // jti 없는 이전 토큰 / 이미 만료된 토큰
+        }
+
+        add(claims.tokenId());
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_KEY, claims.tokenId(), claims.expiresAt());
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, System.currentTimeMillis()); // 만료분 정리
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, claims.tokenId());
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 저장 실패 (이 서버 필터에만 추가): {}", claims.tokenId(), e);
+            throw new BusinessException(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (필터에서 요청마다 호출)
+     */
+    public boolean isRevoked(VerifiedClaims claims) {
+        String tokenId = claims.tokenId();
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+
+        // Bloom Filter가 "있을 수도 있음" → Redis에서 최종 확인
+        try {
+            return redisTemplate.opsForZSet().score(REVOKED_KEY, tokenId) != null;
+        } catch (DataAccessException e) {
+            // Redis 장애 시 정상 사용자까지 막지 않도록 통과 (폐기 토큰도 어차피 30분 내 만료)
+            log.warn("토큰 폐기 여부 확인 실패: {}", tokenId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자기 자신)가 발행한 폐기 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis 원본으로 Bloom Filter 재생성 (만료 안 된 jti만)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:60000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, fpp);
+        lock.lock();
+        try {
+            building = next;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Set<String> revoked = redisTemplate.opsForZSet()
+                    .rangeByScore(REVOKED_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (revoked != null) {
+                revoked.forEach(next::put);
+            }
+        } catch (DataAccessException e) {
+            // 실패하면 기존 필터 유지 (다음 주기에 재시도)
+            log.warn("토큰 폐기 목록 동기화 실패", e);
+            lock.lock();
+            try {
+                building = null;
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        lock.lock();
+        try {
+            filter = next;
+            building = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(String tokenId) {
+        lock.lock();
+        try {
+            filter.put(tokenId);
+            if (building != null) {
+                building.put(tokenId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
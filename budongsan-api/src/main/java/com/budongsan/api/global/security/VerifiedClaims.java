@@ -0,0 +1,35 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.core.domain.member.MemberRole;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims (불변 객체)
+ *
+ * 토큰을 한 번만 파싱해서 필요한 값을 모두 꺼내둠
+ * → getEmail(), getRole() 을 따로 호출하며 매번 다시 파싱하지 않아도 됨
+ *
+ * @param tokenId   jti (토큰 고유 id, 로그아웃 폐기 목록의 키)
+ * @param email     sub (이메일)
+ * @param memberId  회원 id (Refresh Token에는 없으므로 null)
+ * @param role      권한 (Refresh Token에는 없으므로 null)
+ * @param teamId    소속 팀 id (팀 미가입/팀장이면 null)
+ * @param expiresAt 만료 시각 (epoch ms)
+ */
+public record VerifiedClaims(
+        String tokenId,
+        String email,
+        Long memberId,
+        MemberRole role,
+        Long teamId,
+        long expiresAt
+) {
+    /** Access Token인지 (Refresh Token에는 회원 정보 Claims가 없음) */
+    public boolean isAccessToken() {
+        return memberId != null && role != null;
+    }
+
+    /** 남은 수명 (ms), 이미 만료됐으면 0 */
+    public long remainingMillis() {
+        return Math.max(0, expiresAt - System.currentTimeMillis());
+    }
+}
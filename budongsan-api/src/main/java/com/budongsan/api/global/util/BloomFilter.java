@@ -0,0 +1,82 @@
+package com.budongsan.api.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom Filter (thread-safe, 서버별 로컬 사본용)
+ *
+ * - mightContain == false → 절대 들어있지 않음 (Redis 조회 불필요)
+ * - mightContain == true  → 들어있을 "수도" 있음 (오탐률 fpp, Redis로 최종 확인)
+ *
+ * 사용처: 폐기된 토큰 jti (TokenRevocationService), 유효한 초대코드 (TeamInviteCodeIndex)
+ * 삭제가 안 되므로 사용하는 쪽에서 원본으로 주기적으로 새로 만듦
+ *
+ * 비트 배열은 AtomicLongArray → 락 없이 여러 스레드가 동시에 추가/조회 가능
+ * 해시는 64비트 해시 1번을 둘로 나눠 k개 위치를 만듦 (Kirsch-Mitzenmacher 방식)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수 (ex: Access Token 수명 동안의 로그아웃 수)
+     * @param fpp                허용 오탐률 (ex: 0.01 = 1%)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        // 최적 비트 수 m = -n * ln(p) / (ln2)^2, 해시 수 k = m / n * ln2
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            long mask = 1L << (index & 63);
+            bits.getAndUpdate((int) (index >>> 6), word -> word | mask);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int combined) {
+        // 음수 해시도 0 ~ bitSize-1 범위로
+        return (combined & 0x7fffffffL) % bitSize;
+    }
+
+    /**
+     * FNV-1a 64비트 + MurmurHash3 fmix64 (비트 고르게 섞기)
+     */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,14 @@
+-- 가져오기 실행 잠금 연장 - 아직 내 잠금일 때만 (compare-and-expire)
+--
+-- KEYS[1] = IMPORTJOB:{작업 id}:lock  실행 중인 서버 id
+-- ARGV[1] = 내 서버 id
+-- ARGV[2] = 잠금 TTL (ms)
+--
+-- 반환: 1 = 연장, 0 = 잠금이 만료됐거나 다른 서버가 가져감 (작업 중단)
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
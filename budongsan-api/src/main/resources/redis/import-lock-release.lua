@@ -0,0 +1,12 @@
+-- 가져오기 실행 잠금 해제 - 아직 내 잠금일 때만 (compare-and-delete)
+--
+-- KEYS[1] = IMPORTJOB:{작업 id}:lock  실행 중인 서버 id
+-- ARGV[1] = 내 서버 id
+--
+-- 반환: 1 = 해제, 0 = 이미 만료됐거나 다른 서버의 잠금 (건드리지 않음)
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+return redis.call('DEL', KEYS[1])
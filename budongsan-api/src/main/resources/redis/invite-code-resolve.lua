@@ -0,0 +1,17 @@
+-- 초대코드 → 팀 id 조회 + 색인 준비 여부를 한 번에 (왕복 1회)
+--
+-- KEYS[1] = INVITE:TEAM   HASH (code → teamId)
+-- KEYS[2] = INVITE:READY  색인 채우기 완료 표시
+-- ARGV[1] = 초대코드 (정규화된 값)
+--
+-- 반환: 팀 id (> 0), 0 = 없는 코드 (색인 준비됨), -1 = 색인 준비 전 (DB로 확인)
+
+local teamId = redis.call('HGET', KEYS[1], ARGV[1])
+if teamId then
+    return tonumber(teamId)
+end
+
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+return -1
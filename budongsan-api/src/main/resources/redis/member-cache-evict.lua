@@ -0,0 +1,12 @@
+-- 회원 캐시(L2) 무효화 - 스냅샷 삭제 + 버전 증가를 한 번에
+--
+-- KEYS[1] = MEMBER:{email}
+-- KEYS[2] = MEMBERVER:{email}
+-- ARGV[1] = 버전 키 만료 시간 (ms, 스냅샷 만료와 같게 → 진행 중인 조회보다 항상 오래 남음)
+--
+-- 반환: 증가한 버전
+
+redis.call('DEL', KEYS[1])
+local version = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return version
@@ -0,0 +1,18 @@
+-- 회원 캐시(L2) 저장 - DB를 읽기 전에 본 버전이 그대로일 때만 (compare-and-set)
+--
+-- KEYS[1] = MEMBER:{email}     스냅샷 JSON
+-- KEYS[2] = MEMBERVER:{email}  무효화 버전 (무효화마다 +1)
+-- ARGV[1] = DB 조회 전에 읽은 버전 (키가 없었으면 "0")
+-- ARGV[2] = 스냅샷 JSON
+-- ARGV[3] = 만료 시간 (ms)
+--
+-- 반환: 1 = 저장, 0 = 조회 도중 무효화됨 (오래된 스냅샷이라 저장하지 않음)
+
+local version = redis.call('GET', KEYS[2]) or '0'
+
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
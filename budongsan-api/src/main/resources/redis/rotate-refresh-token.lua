@@ -0,0 +1,27 @@
+-- Refresh Token 회전 (GET 비교 + 새 토큰 저장 + 재사용 감지를 한 번에, 원자적으로 실행)
+--
+-- KEYS[1] = RT:{email}   현재 유효한 Refresh Token의 다이제스트
+-- KEYS[2] = RTU:{email}  이미 사용(회전)된 Refresh Token 다이제스트 Set
+-- ARGV[1] = 제출된 토큰 다이제스트
+-- ARGV[2] = 새로 발급한 토큰 다이제스트
+-- ARGV[3] = 만료 시간 (ms)
+--
+-- 반환:  1 = 회전 성공
+--        0 = 저장된 토큰 없음/불일치 (로그아웃, 만료 등)
+--       -1 = 이미 사용된 토큰 재사용 → 토큰 체인 전체 폐기
+
+local current = redis.call('GET', KEYS[1])
+
+if current == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    redis.call('SADD', KEYS[2], ARGV[1])
+    redis.call('PEXPIRE', KEYS[2], ARGV[3])
+    return 1
+end
+
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return -1
+end
+
+return 0
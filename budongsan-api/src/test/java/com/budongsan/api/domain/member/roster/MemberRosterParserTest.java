@@ -0,0 +1,96 @@
+package com.budongsan.api.domain.member.roster;
+
+import com.budongsan.core.domain.member.MemberRole;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 명단 행 검증 (회원가입과 같은 규칙 + 역할/초대코드)
+ */
+class MemberRosterParserTest {
+
+    @Test
+    void 정상_행은_앞뒤_공백을_제거해_변환() {
+        MemberRosterRow row = MemberRosterParser.parse(
+                line(2, " user@test.com ", "password1", " 홍길동 ", "member", "ABCDEFGH"));
+
+        assertThat(row.row()).isEqualTo(2);
+        assertThat(row.email()).isEqualTo("user@test.com");
+        assertThat(row.rawPassword()).isEqualTo("password1");
+        assertThat(row.name()).isEqualTo("홍길동");
+        assertThat(row.role()).isEqualTo(MemberRole.MEMBER);
+        assertThat(row.inviteCode()).isEqualTo("ABCDEFGH");
+    }
+
+    @Test
+    void 역할은_한글로도_입력() {
+        assertThat(MemberRosterParser.parse(line(2, "a@test.com", "password1", "팀장", "팀장", null)).role())
+                .isEqualTo(MemberRole.LEADER);
+        assertThat(MemberRosterParser.parse(line(3, "b@test.com", "password1", "팀원", "팀원", null)).role())
+                .isEqualTo(MemberRole.MEMBER);
+    }
+
+    @Test
+    void 초대코드가_비어_있으면_팀_미가입() {
+        assertThat(MemberRosterParser.parse(line(2, "a@test.com", "password1", "팀원", "MEMBER", "")).inviteCode())
+                .isNull();
+    }
+
+    @Test
+    void 필수_값이_없으면_거절() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, null, "password1", "이름", "MEMBER", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이메일을(를) 입력해주세요.");
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "a@test.com", "password1", " ", "MEMBER", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름을(를) 입력해주세요.");
+    }
+
+    @Test
+    void 이메일_형식이_아니면_거절() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "not-an-email", "password1", "이름", "MEMBER", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("올바른 이메일 형식이 아닙니다.");
+    }
+
+    @Test
+    void 비밀번호가_8자_미만이면_거절() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "a@test.com", "short", "이름", "MEMBER", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비밀번호는 8자 이상이어야 합니다.");
+    }
+
+    @Test
+    void 이름이_255자를_넘으면_거절() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "a@test.com", "password1", "가".repeat(256), "MEMBER", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름은(는) 255자 이하여야 합니다.");
+    }
+
+    @Test
+    void ADMIN은_명단으로_만들_수_없음() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "a@test.com", "password1", "이름", "ADMIN", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("역할은 팀장(LEADER) 또는 팀원(MEMBER)이어야 합니다.");
+    }
+
+    @Test
+    void 팀장은_초대코드를_입력할_수_없음() {
+        assertThatThrownBy(() -> MemberRosterParser.parse(line(2, "a@test.com", "password1", "이름", "LEADER", "ABCDEFGH")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("초대코드는 팀원만 입력할 수 있습니다.");
+    }
+
+    private static MemberRosterLine line(int row, String email, String password, String name,
+                                         String role, String inviteCode) {
+        String[] cells = new String[MemberRosterColumns.COUNT];
+        cells[MemberRosterColumns.EMAIL] = email;
+        cells[MemberRosterColumns.PASSWORD] = password;
+        cells[MemberRosterColumns.NAME] = name;
+        cells[MemberRosterColumns.ROLE] = role;
+        cells[MemberRosterColumns.INVITE_CODE] = inviteCode;
+        return new MemberRosterLine(row, cells);
+    }
+}
@@ -0,0 +1,161 @@
+package com.budongsan.api.domain.member.service;
+
+import com.budongsan.api.domain.member.dto.MemberBulkResponse;
+import com.budongsan.api.domain.member.dto.MemberBulkResponse.RowError;
+import com.budongsan.api.domain.member.repository.MemberBulkRepository;
+import com.budongsan.api.domain.member.repository.MemberRepository;
+import com.budongsan.api.domain.member.roster.MemberRosterLine;
+import com.budongsan.api.domain.member.roster.MemberRosterReader;
+import com.budongsan.api.domain.team.invite.TeamInviteCodeIndex;
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.api.global.security.PasswordHasher;
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.team.Team;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 대량 등록 - 실패 행은 행 번호 + 사유로 제외하고 나머지만 한 번에 저장
+ */
+class MemberBulkServiceTest {
+
+    private static final String CODE = "ABCDEFGH";
+    private static final String UNKNOWN_CODE = "HGFEDCBA";
+
+    private final MultipartFile file = mock(MultipartFile.class);
+
+    private MemberRosterReader rosterReader;
+    private MemberRepository memberRepository;
+    private MemberBulkRepository memberBulkRepository;
+    private TeamRepository teamRepository;
+    private TeamInviteCodeIndex teamInviteCodeIndex;
+    private PasswordHasher passwordHasher;
+    private MemberBulkService memberBulkService;
+
+    @BeforeEach
+    void setUp() {
+        rosterReader = mock(MemberRosterReader.class);
+        memberRepository = mock(MemberRepository.class);
+        memberBulkRepository = mock(MemberBulkRepository.class);
+        teamRepository = mock(TeamRepository.class);
+        teamInviteCodeIndex = mock(TeamInviteCodeIndex.class);
+        passwordHasher = mock(PasswordHasher.class);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(teamInviteCodeIndex.resolve(CODE)).thenReturn(Optional.of(7L));
+        when(teamInviteCodeIndex.resolve(UNKNOWN_CODE)).thenReturn(Optional.empty());
+        when(teamRepository.getReferenceById(7L)).thenReturn(Team.builder().name("팀").inviteCode(CODE).build());
+        when(passwordHasher.encodeAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(raw -> "{hash}" + raw).toList());
+
+        memberBulkService = new MemberBulkService(rosterReader, memberRepository, memberBulkRepository,
+                teamRepository, teamInviteCodeIndex, passwordHasher, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 실패_행은_행_번호와_사유로_제외하고_나머지만_저장() {
+        when(rosterReader.read(file)).thenReturn(List.of(
+                line(2, "a@test.com", "LEADER", null),
+                line(3, "not-an-email", "MEMBER", null),
+                line(4, "a@test.com", "MEMBER", null),       // 명단 안 중복
+                line(5, "joined@test.com", "MEMBER", null),  // 이미 가입
+                line(6, "b@test.com", "MEMBER", CODE),
+                line(7, "c@test.com", "MEMBER", UNKNOWN_CODE)
+        ));
+        when(memberRepository.findExistingEmails(any())).thenReturn(List.of("joined@test.com"));
+
+        MemberBulkResponse response = memberBulkService.register(file);
+
+        assertThat(response.totalRows()).isEqualTo(6);
+        assertThat(response.createdRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(4);
+        assertThat(response.errors()).extracting(RowError::row).containsExactly(3, 4, 5, 7);
+        assertThat(response.errors()).extracting(RowError::message).containsExactly(
+                "올바른 이메일 형식이 아닙니다.",
+                "명단에 같은 이메일이 있습니다.",
+                ErrorCode.DUPLICATE_EMAIL.getMessage(),
+                ErrorCode.INVALID_INVITE_CODE.getMessage());
+
+        List<Member> saved = savedMembers();
+        assertThat(saved).extracting(Member::getEmail).containsExactly("a@test.com", "b@test.com");
+        assertThat(saved).extracting(Member::getPassword).containsExactly("{hash}password1", "{hash}password1");
+        assertThat(saved.get(0).getTeam()).isNull();
+        assertThat(saved.get(1).getTeam().getInviteCode()).isEqualTo(CODE);
+    }
+
+    @Test
+    void 같은_초대코드는_한_번만_조회() {
+        when(rosterReader.read(file)).thenReturn(List.of(
+                line(2, "a@test.com", "MEMBER", CODE),
+                line(3, "b@test.com", "MEMBER", CODE),
+                line(4, "c@test.com", "MEMBER", CODE)
+        ));
+        when(memberRepository.findExistingEmails(any())).thenReturn(List.of());
+
+        memberBulkService.register(file);
+
+        verify(teamInviteCodeIndex, times(1)).resolve(CODE);
+        verify(teamRepository, times(1)).getReferenceById(7L);
+    }
+
+    @Test
+    void 등록할_행이_없으면_저장하지_않음() {
+        when(rosterReader.read(file)).thenReturn(List.of(line(2, "not-an-email", "MEMBER", null)));
+        when(memberRepository.findExistingEmails(any())).thenReturn(List.of());
+
+        MemberBulkResponse response = memberBulkService.register(file);
+
+        assertThat(response.createdRows()).isZero();
+        verify(memberBulkRepository, never()).persistAll(anyList());
+    }
+
+    @Test
+    void 확인_후_같은_이메일이_가입되면_DUPLICATE_EMAIL() {
+        when(rosterReader.read(file)).thenReturn(List.of(line(2, "a@test.com", "MEMBER", null)));
+        when(memberRepository.findExistingEmails(any())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("uk_member_email"))
+                .when(memberBulkRepository).persistAll(anyList());
+
+        assertThatThrownBy(() -> memberBulkService.register(file))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_EMAIL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Member> savedMembers() {
+        ArgumentCaptor<List<Member>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberBulkRepository).persistAll(captor.capture());
+        return captor.getValue();
+    }
+
+    // 열 순서: 이메일 | 비밀번호 | 이름 | 역할 | 초대코드 (MemberRosterColumns)
+    private static MemberRosterLine line(int row, String email, String role, String inviteCode) {
+        return new MemberRosterLine(row, new String[]{email, "password1", "이름", role, inviteCode});
+    }
+}
@@ -0,0 +1,57 @@
+package com.budongsan.api.domain.property.photo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 형식 판별 (매직 바이트, 클라이언트 Content-Type은 보지 않음)
+ */
+class PhotoFormatTest {
+
+    @Test
+    void 허용_형식은_앞부분_바이트로_판별() {
+        assertThat(PhotoFormat.detect(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0, 0x10))).contains(PhotoFormat.JPEG);
+        assertThat(PhotoFormat.detect(bytes(0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0x0D)))
+                .contains(PhotoFormat.PNG);
+        assertThat(PhotoFormat.detect(bytes('R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'E', 'B', 'P')))
+                .contains(PhotoFormat.WEBP);
+    }
+
+    @Test
+    void 이미지가_아니면_empty() {
+        assertThat(PhotoFormat.detect("<html><script>".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(PhotoFormat.detect(bytes('R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'A', 'V', 'E'))).isEmpty(); // WAV
+        assertThat(PhotoFormat.detect(bytes('G', 'I', 'F', '8', '9', 'a'))).isEmpty();
+    }
+
+    @Test
+    void 판별에_필요한_길이보다_짧으면_empty() {
+        assertThat(PhotoFormat.detect(new byte[0])).isEmpty();
+        assertThat(PhotoFormat.detect(bytes(0xFF, 0xD8))).isEmpty();
+        assertThat(PhotoFormat.detect(bytes('R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'E'))).isEmpty();
+    }
+
+    @Test
+    void 스트림은_앞부분만_읽음() throws Exception {
+        byte[] jpeg = new byte[1000];
+        jpeg[0] = (byte) 0xFF;
+        jpeg[1] = (byte) 0xD8;
+        jpeg[2] = (byte) 0xFF;
+        ByteArrayInputStream input = new ByteArrayInputStream(jpeg);
+
+        assertThat(PhotoFormat.detect(input)).contains(PhotoFormat.JPEG);
+        assertThat(input.available()).isEqualTo(1000 - PhotoFormat.HEADER_LENGTH);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,188 @@
+package com.budongsan.api.domain.property.photo;
+
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPhotoResponderTest {
+
+    private static final int LENGTH = 1000;
+    private static final String ETAG = "3f2c9a.jpg";
+    private static final String TOO_LONG = "99999999999999999999"; // long 범위 초과
+
+    private final PropertyPhotoResponder responder = new PropertyPhotoResponder();
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            content[i] = (byte) i;
+        }
+        file = Files.write(dir.resolve(ETAG), content);
+    }
+
+    @Test
+    void 시작과_끝이_있는_범위() {
+        assertThat(PropertyPhotoResponder.resolveRange("0", "99", LENGTH)).containsExactly(0, 99);
+        assertThat(PropertyPhotoResponder.resolveRange("500", "", LENGTH)).containsExactly(500, 999);
+        assertThat(PropertyPhotoResponder.resolveRange("900", "5000", LENGTH)).containsExactly(900, 999); // 끝은 파일 크기로 잘림
+    }
+
+    @Test
+    void 뒤에서_N바이트() {
+        assertThat(PropertyPhotoResponder.resolveRange("", "100", LENGTH)).containsExactly(900, 999);
+        assertThat(PropertyPhotoResponder.resolveRange("", "5000", LENGTH)).containsExactly(0, 999); // 파일보다 길면 전체
+        assertThat(PropertyPhotoResponder.resolveRange("", "0", LENGTH)).isNull();
+        assertThat(PropertyPhotoResponder.resolveRange("", "100", 0)).isNull(); // 빈 파일
+    }
+
+    @Test
+    void 만족할_수_없는_범위() {
+        assertThat(PropertyPhotoResponder.resolveRange("", "", LENGTH)).isNull();
+        assertThat(PropertyPhotoResponder.resolveRange("1000", "", LENGTH)).isNull();     // start == length
+        assertThat(PropertyPhotoResponder.resolveRange("2000", "2100", LENGTH)).isNull(); // start > length
+        assertThat(PropertyPhotoResponder.resolveRange("10", "5", LENGTH)).isNull();      // start > end
+    }
+
+    @Test
+    void 자릿수가_long_범위를_넘는_경우() {
+        assertThat(PropertyPhotoResponder.resolveRange(TOO_LONG, "", LENGTH)).isNull();
+        assertThat(PropertyPhotoResponder.resolveRange("0", TOO_LONG, LENGTH)).containsExactly(0, 999);
+        assertThat(PropertyPhotoResponder.resolveRange("", TOO_LONG, LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void 범위_요청은_206과_해당_바이트만() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1000");
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+    }
+
+    @Test
+    void 뒤에서_N바이트_요청() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-10");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 990-999/1000");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 990, 1000));
+    }
+
+    @Test
+    void 파일_밖의_범위는_416() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void If_Range가_다르면_범위를_무시하고_전체() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other.jpg\"");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void If_Range가_같으면_범위_응답() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"" + ETAG + "\"");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 0, 10));
+    }
+
+    @Test
+    void 여러_범위_요청은_전체_200() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9,20-29");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void ETag가_같으면_304_본문_없음() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + ETAG + "\"");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + ETAG + "\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 저장된_형식으로만_해석하도록_nosniff() throws Exception {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void 장기_캐시는_immutable일_때만() throws Exception {
+        MockHttpServletResponse immutable = write(get());
+        MockHttpServletResponse fallback = new MockHttpServletResponse();
+        responder.write(get(), fallback, file, "image/jpeg", ETAG, false);
+
+        assertThat(immutable.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(fallback.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, max-age=60");
+    }
+
+    @Test
+    void 파일이_없으면_캐시_헤더_없이_404() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> responder.write(get(), response, dir.resolve("missing.jpg"), "image/jpeg", ETAG, true))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PHOTO_NOT_FOUND));
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/properties/1/photos/1");
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.write(request, response, file, "image/jpeg", ETAG, true);
+        return response;
+    }
+}
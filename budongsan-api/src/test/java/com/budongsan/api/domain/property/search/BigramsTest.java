@@ -0,0 +1,38 @@
+package com.budongsan.api.domain.property.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramsTest {
+
+    @Test
+    void 검색어는_공백과_문장부호에서_나뉜다() {
+        assertThat(Bigrams.terms("역삼 래미안 84")).containsExactly("역삼", "래미안", "84");
+        assertThat(Bigrams.terms("역삼동,  신축/투룸")).containsExactly("역삼동", "신축", "투룸");
+    }
+
+    @Test
+    void 한_글자_토큰은_버리고_영문은_소문자로() {
+        assertThat(Bigrams.terms("A동 3 RAEMIAN")).containsExactly("a동", "raemian");
+        assertThat(Bigrams.terms("역 3 ,")).isEmpty();
+    }
+
+    @Test
+    void 바이그램은_토큰_안에서만_만든다() {
+        List<Integer> keys = new ArrayList<>();
+        Bigrams.forEach("역삼 동", keys::add);
+
+        // "삼 동"처럼 공백을 건너는 바이그램은 없음
+        assertThat(keys).containsExactly(Bigrams.distinct("역삼")[0]);
+    }
+
+    @Test
+    void 토큰의_바이그램은_중복_제거() {
+        assertThat(Bigrams.distinct("하하하")).hasSize(1);
+        assertThat(Bigrams.distinct("래미안")).hasSize(2);
+    }
+}
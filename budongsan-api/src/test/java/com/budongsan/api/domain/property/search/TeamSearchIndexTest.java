@@ -0,0 +1,88 @@
+package com.budongsan.api.domain.property.search;
+
+import com.budongsan.api.domain.property.dto.PropertySearchDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamSearchIndexTest {
+
+    @Test
+    void 토큰의_바이그램이_같은_필드에_모두_있어야_맞는다() {
+        TeamSearchIndex index = new TeamSearchIndex(List.of(
+                // "역삼"은 제목, "삼동"은 주소 → "역삼동"으로는 맞지 않음
+                new PropertySearchDocument(1L, "역삼 오피스텔", "삼동로 12", null),
+                new PropertySearchDocument(2L, "신축 투룸", "강남구 역삼동 123", null)));
+
+        assertThat(ids(index.search(Bigrams.terms("역삼동"), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void 맞은_토큰_수와_필드_가중치_순으로_정렬() {
+        TeamSearchIndex index = new TeamSearchIndex(List.of(
+                new PropertySearchDocument(1L, "신축 투룸", "역삼동", "래미안 바로 옆"),  // 토큰 2개 (주소 + 메모)
+                new PropertySearchDocument(2L, "역삼 래미안 84", "역삼동", null),      // 토큰 2개 (제목 + 주소)
+                new PropertySearchDocument(3L, "래미안", null, null)));               // 토큰 1개
+
+        assertThat(ids(index.search(Bigrams.terms("역삼 래미안"), 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.search(Bigrams.terms("역삼 래미안"), 1))).containsExactly(2L);
+    }
+
+    @Test
+    void 수정하면_예전_텍스트로는_찾을_수_없다() {
+        TeamSearchIndex index = new TeamSearchIndex(List.of(
+                new PropertySearchDocument(1L, "역삼 래미안", "강남구", null)));
+
+        index.upsert(new PropertySearchDocument(1L, "논현 자이", "강남구", null));
+
+        assertThat(index.search(Bigrams.terms("래미안"), 10)).isEmpty();
+        assertThat(ids(index.search(Bigrams.terms("자이"), 10))).containsExactly(1L);
+        assertThat(ids(index.search(Bigrams.terms("강남구"), 10))).containsExactly(1L); // 중복 결과 없음
+    }
+
+    @Test
+    void 삭제하면_검색되지_않는다() {
+        TeamSearchIndex index = new TeamSearchIndex(List.of(
+                new PropertySearchDocument(1L, "역삼 래미안", null, null)));
+
+        index.remove(1L);
+
+        assertThat(index.search(Bigrams.terms("래미안"), 10)).isEmpty();
+    }
+
+    @Test
+    void 삭제_표시가_1000건을_넘고_살아있는_문서보다_많으면_재적재() {
+        TeamSearchIndex index = new TeamSearchIndex(List.of(
+                new PropertySearchDocument(1L, "역삼 래미안", null, null)));
+        assertThat(index.needsRebuild()).isFalse();
+
+        for (int i = 0; i < 1000; i++) {
+            index.upsert(new PropertySearchDocument(1L, "역삼 래미안 " + i, null, null));
+        }
+        assertThat(index.needsRebuild()).isFalse(); // 삭제 표시 1000건
+
+        index.upsert(new PropertySearchDocument(1L, "역삼 래미안", null, null));
+        assertThat(index.needsRebuild()).isTrue();
+    }
+
+    @Test
+    void 살아있는_문서가_더_많으면_삭제_표시가_많아도_유지() {
+        List<PropertySearchDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            documents.add(new PropertySearchDocument(id, "매물 " + id, null, null));
+        }
+        TeamSearchIndex index = new TeamSearchIndex(documents);
+
+        for (long id = 1; id <= 1500; id++) {
+            index.upsert(new PropertySearchDocument(id, "수정 " + id, null, null));
+        }
+        assertThat(index.needsRebuild()).isFalse(); // 삭제 표시 1500 < 살아있는 문서 2000
+    }
+
+    private static List<Long> ids(List<TeamSearchIndex.Hit> hits) {
+        return hits.stream().map(TeamSearchIndex.Hit::propertyId).toList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.budongsan.api.domain.team.invite;
+
+import com.budongsan.api.domain.team.repository.TeamRepository;
+import com.budongsan.core.domain.team.TeamCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 초대코드 색인 - Bloom Filter는 최신임을 확인했을 때만 거절에 사용
+ * (Redis 장애 / 색인 추가 실패 / 메시지 유실 때 유효한 코드를 거절하지 않고 Redis/DB로)
+ */
+class TeamInviteCodeIndexTest {
+
+    private static final String KNOWN_CODE = "ABCDEFGH";
+    private static final String NEW_CODE = "HGFEDCBA";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private HashOperations<String, Object, Object> hashOperations;
+    private RedisScript<Long> resolveScript;
+    private TeamRepository teamRepository;
+    private TeamInviteCodeIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        hashOperations = mock(HashOperations.class);
+        resolveScript = mock(RedisScript.class);
+        teamRepository = mock(TeamRepository.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.execute(eq(resolveScript), anyList(), anyString())).thenReturn(0L); // 색인에 없음
+        when(teamRepository.findByInviteCode(anyString())).thenReturn(Optional.empty());
+
+        index = new TeamInviteCodeIndex(redisTemplate, resolveScript, teamRepository,
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                1000, Duration.ofMinutes(10), 1000, 0.01, 2000);
+
+        givenState("1", "5");
+        givenIndex(KNOWN_CODE);
+        index.checkFilter(); // 필터 생성 (세대 5)
+    }
+
+    @Test
+    void 최신_필터에_없는_코드는_Redis를_조회하지_않고_거절() {
+        assertThat(index.resolve(NEW_CODE)).isEmpty();
+
+        verify(redisTemplate, never()).execute(eq(resolveScript), anyList(), anyString());
+    }
+
+    @Test
+    void READY가_없으면_필터를_버리고_DB_조회() {
+        givenState(null, "5");
+        index.checkFilter();
+        when(redisTemplate.execute(eq(resolveScript), anyList(), eq(NEW_CODE))).thenReturn(-1L);
+
+        index.resolve(NEW_CODE);
+
+        verify(teamRepository).findByInviteCode(NEW_CODE);
+    }
+
+    @Test
+    void Redis_장애가_보이면_필터를_버리고_DB_조회() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        index.checkFilter();
+        when(redisTemplate.execute(eq(resolveScript), anyList(), eq(NEW_CODE)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        index.resolve(NEW_CODE);
+
+        verify(teamRepository).findByInviteCode(NEW_CODE);
+    }
+
+    @Test
+    void 색인_추가에_실패하면_필터를_버림() {
+        doThrow(new RedisConnectionFailureException("down")).when(hashOperations).put(anyString(), any(), any());
+        index.onTeamCreated(new TeamCreatedEvent(7L, NEW_CODE));
+
+        index.resolve("ZZZZZZZZ"); // 다른 서버에서 만든 코드일 수도 있음 → 필터로 거절하지 않고 색인 조회
+
+        verify(redisTemplate).execute(eq(resolveScript), anyList(), eq("ZZZZZZZZ"));
+    }
+
+    @Test
+    void 세대가_뒤처진_동안은_필터를_믿지_않고_두_번_연속이면_다시_생성() {
+        givenState("1", "6"); // 다른 서버가 만든 코드의 메시지가 아직 안 옴 (또는 유실)
+        givenIndex(KNOWN_CODE, NEW_CODE);
+        expireTrust();
+        index.checkFilter();
+
+        index.resolve(NEW_CODE);
+        verify(redisTemplate).execute(eq(resolveScript), anyList(), eq(NEW_CODE));
+
+        index.checkFilter(); // 같은 곳에서 또 뒤처짐 → 유실로 보고 색인으로 다시 생성
+        index.resolve("ZZZZZZZZ");
+        verify(redisTemplate, never()).execute(eq(resolveScript), anyList(), eq("ZZZZZZZZ"));
+    }
+
+    @Test
+    void 메시지로_세대를_따라잡으면_다시_신뢰() {
+        index.onMessage(new DefaultMessage(new byte[0], ("6:" + NEW_CODE).getBytes(StandardCharsets.UTF_8)), null);
+        givenState("1", "6");
+        expireTrust();
+        index.checkFilter();
+
+        index.resolve("ZZZZZZZZ");
+
+        verify(redisTemplate, never()).execute(eq(resolveScript), anyList(), anyString());
+    }
+
+    private void givenState(String ready, String generation) {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(ready, generation));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIndex(String... codes) {
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        List<Map.Entry<Object, Object>> entries = Arrays.stream(codes)
+                .map(code -> Map.<Object, Object>entry(code, "1"))
+                .toList();
+        var iterator = entries.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(hashOperations.scan(eq("INVITE:TEAM"), any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    // 확인 주기가 지난 것처럼 (신뢰 기간은 직전 확인으로만 연장됨)
+    private void expireTrust() {
+        ReflectionTestUtils.setField(index, "trustedUntil", System.nanoTime());
+    }
+}
@@ -0,0 +1,117 @@
+package com.budongsan.api.domain.team.repository;
+
+import com.budongsan.api.domain.member.repository.MemberRepository;
+import com.budongsan.api.domain.team.activity.TeamActivityHub;
+import com.budongsan.api.domain.team.dto.TeamResponse;
+import com.budongsan.api.domain.team.invite.TeamInviteCodeIndex;
+import com.budongsan.api.domain.team.invite.TeamInviteCodePool;
+import com.budongsan.api.domain.team.service.TeamAccessResolver;
+import com.budongsan.api.domain.team.service.TeamService;
+import com.budongsan.api.global.config.QueryDslConfig;
+import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.LoginMember;
+import com.budongsan.api.support.EmbeddedPostgresConfig;
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.member.MemberRole;
+import com.budongsan.core.domain.team.Team;
+import com.budongsan.core.response.ApiResponseStreamWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 팀장 팀 목록 조회 (TeamService.getMyTeams → findTeamResponsesByLeaderId)
+ * 팀 수와 상관없이 SQL 1번인지 검증 (TeamResponse.from 방식으로 돌아가면 팀마다 팀장/팀원 로딩 N+1)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, EmbeddedPostgresConfig.class})
+class TeamRepositoryImplTest {
+
+    private static final int TEAM_COUNT = 50;
+    private static final int MEMBERS_PER_TEAM = 3;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TeamService teamService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // getMyTeams는 teamRepository만 사용
+        teamService = new TeamService(
+                teamRepository,
+                mock(MemberRepository.class),
+                mock(JwtTokenProvider.class),
+                mock(TeamInviteCodePool.class),
+                mock(TeamInviteCodeIndex.class),
+                mock(ApplicationEventPublisher.class),
+                mock(TransactionTemplate.class),
+                mock(TeamAccessResolver.class),
+                mock(TeamActivityHub.class),
+                mock(ApiResponseStreamWriter.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 팀장_팀_목록은_팀_수와_상관없이_쿼리_1번() {
+        Member leader = em.persist(member("leader@test.com", MemberRole.LEADER));
+        for (int t = 0; t < TEAM_COUNT; t++) {
+            Team team = em.persist(Team.builder()
+                    .name("팀" + t)
+                    .leader(leader)
+                    .inviteCode("CODE%04d".formatted(t))
+                    .build());
+            for (int m = 0; m < MEMBERS_PER_TEAM; m++) {
+                Member member = member("m%d-%d@test.com".formatted(t, m), MemberRole.MEMBER);
+                member.joinTeam(team);
+                em.persist(member);
+            }
+        }
+        em.flush();
+        em.clear(); // 1차 캐시에 남은 엔티티로 쿼리가 가려지지 않도록
+        statistics.clear();
+
+        List<TeamResponse> teams = teamService.getMyTeams(
+                new LoginMember(leader.getId(), leader.getEmail(), MemberRole.LEADER, null));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(teams).hasSize(TEAM_COUNT);
+        assertThat(teams).allSatisfy(team -> {
+            assertThat(team.leaderName()).isEqualTo("팀장");
+            assertThat(team.memberCount()).isEqualTo(MEMBERS_PER_TEAM);
+        });
+    }
+
+    private static Member member(String email, MemberRole role) {
+        return Member.builder()
+                .email(email)
+                .password("{noop}password")
+                .name(role == MemberRole.LEADER ? "팀장" : "팀원")
+                .role(role)
+                .build();
+    }
+}
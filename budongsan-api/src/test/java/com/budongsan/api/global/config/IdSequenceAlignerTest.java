@@ -0,0 +1,73 @@
+package com.budongsan.api.global.config;
+
+import com.budongsan.api.support.EmbeddedPostgresConfig;
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.member.MemberRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 시절 행이 있는 DB에서 시퀀스 시작값 맞추기
+ * (맞추지 않으면 1부터 시작한 시퀀스가 기존 id와 충돌)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, EmbeddedPostgresConfig.class, IdSequenceAligner.class})
+class IdSequenceAlignerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private IdSequenceAligner idSequenceAligner;
+
+    @Test
+    void 새_회원은_기존_id_뒤에서_할당() {
+        insertMember(1000L, "old@test.com"); // 시퀀스를 거치지 않고 들어간 행
+
+        idSequenceAligner.align();
+        Member member = em.persistAndFlush(Member.builder()
+                .email("new@test.com")
+                .password("{noop}password")
+                .name("회원")
+                .role(MemberRole.MEMBER)
+                .build());
+
+        assertThat(member.getId()).isGreaterThan(1000L);
+    }
+
+    @Test
+    void 다음_nextval은_max_id_더하기_allocationSize_이고_다시_실행해도_그대로() {
+        insertMember(2000L, "old2@test.com");
+
+        idSequenceAligner.align();
+        long next = nextValue("member_seq");
+        idSequenceAligner.align();
+
+        assertThat(next).isEqualTo(2000L + Member.ID_ALLOCATION_SIZE);
+        assertThat(nextValue("member_seq")).isEqualTo(next);
+    }
+
+    private void insertMember(long id, String email) {
+        jdbcTemplate.update("INSERT INTO member (id, email, password, name, role, created_at) "
+                + "VALUES (?, ?, '{noop}password', '기존 회원', 'MEMBER', now())", id, email);
+    }
+
+    // nextval을 호출하지 않고 다음 값 계산
+    private long nextValue(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT CASE WHEN is_called THEN last_value + "
+                + Member.ID_ALLOCATION_SIZE + " ELSE last_value END FROM " + sequence, Long.class);
+    }
+}
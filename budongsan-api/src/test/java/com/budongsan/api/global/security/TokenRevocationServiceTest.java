@@ -0,0 +1,76 @@
+package com.budongsan.api.global.security;
+
+import com.budongsan.core.domain.member.MemberRole;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 폐기 - Redis 장애 시 500 대신 TOKEN_STORE_UNAVAILABLE, jti는 이 서버 필터에 남음
+ */
+class TokenRevocationServiceTest {
+
+    private ZSetOperations<String, String> zSetOperations;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        tokenRevocationService = new TokenRevocationService(
+                redisTemplate, mock(RedisMessageListenerContainer.class), 1000, 0.01);
+    }
+
+    @Test
+    void Redis_장애면_TOKEN_STORE_UNAVAILABLE() {
+        when(zSetOperations.add(anyString(), anyString(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> tokenRevocationService.revoke(claims("jti-1")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    @Test
+    void Redis_장애로_저장하지_못해도_로컬_필터에는_추가() {
+        when(zSetOperations.add(anyString(), anyString(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(zSetOperations.score("RVK", "jti-1")).thenReturn(1.0);
+
+        assertThatThrownBy(() -> tokenRevocationService.revoke(claims("jti-1")))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isTrue();
+    }
+
+    @Test
+    void 필터에_없는_토큰은_Redis를_조회하지_않음() {
+        assertThat(tokenRevocationService.isRevoked(claims("jti-unknown"))).isFalse();
+
+        verify(zSetOperations, never()).score(eq("RVK"), anyString());
+    }
+
+    private static VerifiedClaims claims(String tokenId) {
+        return new VerifiedClaims(tokenId, "user@test.com", 1L, MemberRole.MEMBER, null,
+                System.currentTimeMillis() + 60_000);
+    }
+}
@@ -0,0 +1,28 @@
+package com.budongsan.api.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * 리포지토리 테스트용 PostgreSQL (운영과 같은 16 버전, 프로세스로 실행)
+ *
+ * 사용: @DataJpaTest + @AutoConfigureTestDatabase(replace = NONE) + @Import(EmbeddedPostgresConfig.class)
+ * 같은 설정을 쓰는 테스트끼리는 Spring 컨텍스트 캐시로 DB 프로세스 1개를 공유
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfig {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.builder().start();
+    }
+
+    @Bean
+    public DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+        return embeddedPostgres.getPostgresDatabase();
+    }
+}
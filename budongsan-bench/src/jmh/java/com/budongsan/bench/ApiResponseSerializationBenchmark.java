@@ -0,0 +1,39 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.domain.team.dto.TeamResponse;
+import com.budongsan.core.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * ApiResponse<List<TeamResponse>> Jackson 직렬화 비용 (내 팀 조회 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "50"})
+    public int teamCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<TeamResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        List<TeamResponse> teams = IntStream.range(0, teamCount)
+                .mapToObj(i -> new TeamResponse((long) i, "강남 " + i + "팀", "A1B2C3D" + (i % 10), "김팀장", 12))
+                .toList();
+        response = ApiResponse.success(teams);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
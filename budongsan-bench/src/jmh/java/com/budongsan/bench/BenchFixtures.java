@@ -0,0 +1,32 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.global.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크 공통 준비물 (application.yml과 같은 값 사용)
+ */
+final class BenchFixtures {
+
+    static final String JWT_SECRET = "budongsanSecretKeyForJWTTokenGenerationMustBe256BitsLong!!";
+    static final long ACCESS_TOKEN_EXPIRATION = 1_800_000L;    // 30분
+    static final long REFRESH_TOKEN_EXPIRATION = 604_800_000L; // 7일
+    static final long VERIFIED_CACHE_SIZE = 10_000L;
+
+    private BenchFixtures() {}
+
+    /**
+     * @param verifiedCacheSize 0이면 검증 캐시 없이 매번 파싱
+     */
+    static JwtTokenProvider tokenProvider(long verifiedCacheSize) {
+        return new JwtTokenProvider(JWT_SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, verifiedCacheSize, meterRegistry());
+    }
+
+    /**
+     * 운영과 같은 계측 코드가 실행되도록 실제 레지스트리 사용 (메트릭 오버헤드까지 측정에 포함)
+     */
+    static MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
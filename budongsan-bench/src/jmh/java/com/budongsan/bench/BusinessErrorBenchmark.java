@@ -0,0 +1,81 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.global.exception.GlobalExceptionHandler;
+import com.budongsan.core.exception.BusinessException;
+import com.budongsan.core.exception.ErrorCode;
+import com.budongsan.core.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예상된 비즈니스 에러(잘못된 토큰 등) 1건당 비용
+ *
+ * 예외 생성 + 던지기 (stackDepth = 던지는 지점까지의 호출 깊이, 필터 체인 + 컨트롤러/서비스 흉내)
+ * - throwWithStackTrace : 기존 방식 (RuntimeException 기본 생성자, 스택 트레이스 채움)
+ * - throwStackless      : 현재 BusinessException (4xx는 스택 트레이스 생략)
+ *
+ * 에러 응답 본문
+ * - serializeErrorBody  : 기존 방식 (ApiResponse.fail 생성 + Jackson 직렬화)
+ * - prebuiltErrorBody   : 현재 GlobalExceptionHandler (미리 직렬화한 byte[] + 코드별 카운터)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessErrorBenchmark {
+
+    @Param({"20", "120"})
+    public int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler exceptionHandler;
+    private BusinessException exception;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        exceptionHandler = new GlobalExceptionHandler(BenchFixtures.meterRegistry(), objectMapper);
+        exception = new BusinessException(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Benchmark
+    public RuntimeException throwWithStackTrace() {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException throwStackless() {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeErrorBody() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.fail(ErrorCode.INVALID_TOKEN.getMessage()));
+    }
+
+    @Benchmark
+    public byte[] prebuiltErrorBody() {
+        return exceptionHandler.handleBusinessException(exception).getBody();
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+            return;
+        }
+        throw withStackTrace
+                ? new RuntimeException(ErrorCode.INVALID_TOKEN.getMessage())
+                : new BusinessException(ErrorCode.INVALID_TOKEN);
+    }
+}
@@ -0,0 +1,56 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.global.security.JwtAuthenticationFilter;
+import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.TokenRevocationService;
+import com.budongsan.core.domain.member.MemberRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청 1건 처리 비용 (Mock 요청)
+ * 토큰 추출 → 검증(캐시) → 폐기 확인(Bloom Filter) → SecurityContext 저장
+ *
+ * 폐기 목록은 비어 있음 → Redis 조회 없이 Bloom Filter에서 끝나는 일반적인 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = BenchFixtures.tokenProvider(verifiedCacheSize);
+        // Redis 연결 없이 생성 (빈 Bloom Filter → Redis를 호출하지 않음)
+        TokenRevocationService revocationService = new TokenRevocationService(
+                new RedisTemplate<>(), new RedisMessageListenerContainer(), 100_000, 0.01);
+
+        filter = new JwtAuthenticationFilter(tokenProvider, revocationService, BenchFixtures.meterRegistry());
+        authorization = "Bearer " + tokenProvider.generateAccessToken(1L, "bench@budongsan.com", MemberRole.MEMBER, 10L);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/teams/my");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return request;
+    }
+}
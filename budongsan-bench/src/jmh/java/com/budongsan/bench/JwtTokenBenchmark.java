@@ -0,0 +1,49 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.global.security.JwtTokenProvider;
+import com.budongsan.api.global.security.VerifiedClaims;
+import com.budongsan.core.domain.member.MemberRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 비용
+ *
+ * - generateAccessToken : 로그인/재발급 1회당 비용
+ * - verifyUncached      : 검증 캐시 없이 매번 파싱 + HMAC 서명 검증
+ * - verifyCached        : 같은 토큰 재요청 (캐시 히트, SHA-256 다이제스트 + 캐시 조회)
+ *   → 두 값의 차이가 요청당 절약되는 CPU
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = BenchFixtures.tokenProvider(0);
+        cachedProvider = BenchFixtures.tokenProvider(BenchFixtures.VERIFIED_CACHE_SIZE);
+        accessToken = cachedProvider.generateAccessToken(1L, "bench@budongsan.com", MemberRole.MEMBER, 10L);
+        cachedProvider.verify(accessToken); // 캐시 채워두기
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return uncachedProvider.generateAccessToken(1L, "bench@budongsan.com", MemberRole.MEMBER, 10L);
+    }
+
+    @Benchmark
+    public VerifiedClaims verifyUncached() {
+        return uncachedProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedClaims verifyCached() {
+        return cachedProvider.verify(accessToken);
+    }
+}
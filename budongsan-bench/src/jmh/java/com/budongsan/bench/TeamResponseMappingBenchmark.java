@@ -0,0 +1,41 @@
+package com.budongsan.bench;
+
+import com.budongsan.api.domain.team.dto.TeamResponse;
+import com.budongsan.core.domain.member.Member;
+import com.budongsan.core.domain.member.MemberRole;
+import com.budongsan.core.domain.team.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * TeamResponse.from(team) 엔티티 → DTO 매핑 비용 (팀 50개)
+ * 영속성 컨텍스트 밖이라 지연 로딩 쿼리 비용은 포함되지 않음 (순수 매핑 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TeamResponseMappingBenchmark {
+
+    private List<Team> teams;
+
+    @Setup
+    public void setUp() {
+        Member leader = Member.builder()
+                .email("leader@budongsan.com")
+                .password("{bcrypt}")
+                .name("김팀장")
+                .role(MemberRole.LEADER)
+                .build();
+        teams = IntStream.range(0, 50)
+                .mapToObj(i -> Team.builder().name("강남 " + i + "팀").leader(leader).build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<TeamResponse> mapTeams() {
+        return teams.stream().map(TeamResponse::from).toList();
+    }
+}
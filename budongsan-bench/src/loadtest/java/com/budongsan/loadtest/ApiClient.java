@@ -0,0 +1,87 @@
+package com.budongsan.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트 (JDK HttpClient, 가상 스레드)
+ */
+final class ApiClient {
+
+    record Response(int status, JsonNode body) {
+        boolean ok() {
+            return status / 100 == 2;
+        }
+
+        JsonNode data() {
+            return body.path("data");
+        }
+    }
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    Response get(String path, String accessToken) {
+        return send(request(path, accessToken, Map.of()).GET());
+    }
+
+    Response post(String path, String accessToken, Object body) {
+        return post(path, accessToken, Map.of(), body);
+    }
+
+    Response post(String path, String accessToken, Map<String, String> headers, Object body) {
+        try {
+            HttpRequest.BodyPublisher publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+            return send(request(path, accessToken, headers)
+                    .header("Content-Type", "application/json")
+                    .POST(publisher));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        headers.forEach(builder::header);
+        return builder;
+    }
+
+    private Response send(HttpRequest.Builder builder) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode body = response.body().length > 0
+                    ? objectMapper.readTree(response.body())
+                    : objectMapper.createObjectNode();
+            return new Response(response.statusCode(), body);
+        } catch (IOException e) {
+            return new Response(0, objectMapper.createObjectNode()); // 연결 오류 → 실패로 집계
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, objectMapper.createObjectNode());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.budongsan.loadtest;
+
+/**
+ * 엔드포인트별 측정 결과 (report.json / 기준선 파일 형식)
+ *
+ * @param count      요청 수
+ * @param errors     실패 수 (2xx가 아니거나 연결 오류)
+ * @param errorRate  실패율 (0 ~ 1)
+ * @param throughput 초당 처리 요청 수
+ * @param p50Ms      지연 시간 50% (ms)
+ * @param p95Ms      지연 시간 95% (ms)
+ * @param p99Ms      지연 시간 99% (ms)
+ */
+record EndpointResult(
+        long count,
+        long errors,
+        double errorRate,
+        double throughput,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms
+) {}
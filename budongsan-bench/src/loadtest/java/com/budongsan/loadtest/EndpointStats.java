@@ -0,0 +1,47 @@
+package com.budongsan.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 1개의 지연 시간 / 에러 수집기 (여러 스레드에서 동시에 기록)
+ */
+final class EndpointStats {
+
+    // 1µs ~ 60s 범위, 유효숫자 3자리
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+    private final LongAdder errors = new LongAdder();
+    private long startNanos;
+    private long endNanos;
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    void record(long elapsedNanos, boolean success) {
+        histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    EndpointResult toResult() {
+        long count = histogram.getTotalCount();
+        double seconds = Math.max(1, endNanos - startNanos) / 1_000_000_000.0;
+        return new EndpointResult(
+                count,
+                errors.sum(),
+                count == 0 ? 0 : (double) errors.sum() / count,
+                count / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0
+        );
+    }
+}
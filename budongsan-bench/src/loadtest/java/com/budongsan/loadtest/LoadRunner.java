@@ -0,0 +1,100 @@
+package com.budongsan.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * 고정 동시성 부하 생성기
+ *
+ * concurrency 개의 가상 스레드가 요청 번호(0 ~ requests-1)를 하나씩 가져가며 호출
+ * → 클로즈드 모델 (응답을 받아야 다음 요청), 서버가 느려지면 처리량이 떨어지는 게 그대로 보임
+ */
+final class LoadRunner {
+
+    private final int concurrency;
+
+    LoadRunner(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * @param call i번째 요청 실행, 성공 여부 반환
+     */
+    EndpointStats run(int requests, IntPredicate call) {
+        EndpointStats stats = new EndpointStats();
+        AtomicInteger next = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>(concurrency);
+
+        stats.start();
+        for (int w = 0; w < Math.min(concurrency, requests); w++) {
+            workers.add(Thread.ofVirtual().start(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = call.test(i);
+                    } catch (RuntimeException e) {
+                        success = false;
+                    }
+                    stats.record(System.nanoTime() - start, success);
+                }
+            }));
+        }
+        joinAll(workers);
+        stats.stop();
+        return stats;
+    }
+
+    /**
+     * stop 신호가 올 때까지 call을 반복 (배경 부하용)
+     */
+    Background runUntilStopped(IntPredicate call) {
+        Background background = new Background();
+        AtomicInteger next = new AtomicInteger();
+
+        background.stats.start();
+        for (int w = 0; w < concurrency; w++) {
+            background.workers.add(Thread.ofVirtual().start(() -> {
+                while (!background.stopped) {
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = call.test(next.getAndIncrement());
+                    } catch (RuntimeException e) {
+                        success = false;
+                    }
+                    background.stats.record(System.nanoTime() - start, success);
+                }
+            }));
+        }
+        return background;
+    }
+
+    static final class Background {
+
+        private final EndpointStats stats = new EndpointStats();
+        private final List<Thread> workers = new ArrayList<>();
+        private volatile boolean stopped;
+
+        EndpointStats stop() {
+            stopped = true;
+            joinAll(workers);
+            stats.stop();
+            return stats;
+        }
+    }
+
+    private static void joinAll(List<Thread> workers) {
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.budongsan.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 부하 테스트 결과 비교표
+ *
+ * loadTestPlatform, loadTestVirtual이 남긴 report-*.json을 읽어
+ * auth/team 엔드포인트별 p50/p99/처리량을 나란히 출력하고 compare.md로 저장
+ *
+ * 어느 한쪽이라도 실패 요청이 있으면 비교표를 만들지 않고 exit 1
+ * → 에러율이 다른 실행끼리의 처리량/p99 차이는 대부분 실패 응답 때문이라 스레드 모델 비교가 되지 않음
+ *
+ * args: [플랫폼 결과 json] [가상 스레드 결과 json] [출력 md]
+ */
+public class LoadTestCompare {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestReport platform = LoadTestReport.read(new File(args[0]));
+        LoadTestReport virtual = LoadTestReport.read(new File(args[1]));
+        File output = new File(args[2]);
+
+        List<String> failed = new ArrayList<>();
+        platform.endpointsWithErrors().forEach(f -> failed.add("platform " + f));
+        virtual.endpointsWithErrors().forEach(f -> failed.add("virtual " + f));
+        if (!failed.isEmpty()) {
+            output.delete(); // 이전 실행의 비교표가 남아 있지 않도록
+            System.out.println("[loadtest] 실패 요청이 있어 비교하지 않음:");
+            failed.forEach(f -> System.out.println("  - " + f));
+            System.exit(1);
+        }
+
+        String table = LoadTestReport.sideBySide("platform", platform, "virtual", virtual);
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        Files.writeString(output.toPath(), table, StandardCharsets.UTF_8);
+
+        System.out.println();
+        System.out.println("[loadtest] 플랫폼 vs 가상 스레드 (" + Runtime.getRuntime().availableProcessors() + " cores), " + output);
+        System.out.print(table);
+    }
+}
@@ -0,0 +1,253 @@
+package com.budongsan.loadtest;
+
+import com.budongsan.api.BudongsanApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * auth / team API 엔드투엔드 부하 테스트
+ *
+ * 1. 임베디드 PostgreSQL + Redis 실행
+ * 2. API 서버를 같은 JVM에서 실행 (local 프로필 + 선택 프로필, ex. virtual)
+ * 3. 시나리오별로 실제 HTTP 요청을 보내 p50/p95/p99, 처리량, 에러율 측정
+ *    signup → login → 팀 생성 → 팀 가입 → 내 팀 조회 → 팀원 목록 → 로그인 폭주 중 내 팀 조회 → 재발급 → 로그아웃
+ * 4. 결과를 report.json으로 저장하고 기준선과 비교, 회귀가 있거나 기준선 파일이 없으면 exit 1
+ * 5. 로그인 폭주 중 team.my p99를 같은 실행의 평상시 team.my p99와 비교, storm-tolerance 초과면 exit 1
+ * 6. 실패 요청이 1건이라도 있으면 exit 1 (기준선도 저장하지 않음)
+ *
+ * BCrypt를 쓰는 요청(signup/login/로그인 폭주)은 authConcurrency로 따로 보냄 (기본 코어 수 × 2)
+ * → 해싱 풀(코어 수 스레드)을 계속 채우면서(대기열에 항상 코어 수만큼 대기) wait-timeout 안에 처리되는 만큼만 동시에 보냄
+ * → concurrency(32)로 보내면 코어가 적은 장비에서는 AUTH_BUSY 거절이 섞여 결과가 실패 응답 속도가 됨
+ *
+ * 설정은 시스템 프로퍼티로 받음 (build.gradle의 loadTest 태스크 참고)
+ */
+public class LoadTestMain {
+
+    private static final String PASSWORD = "loadtest1234";
+    private static final int TEAMS_PER_LEADER = 3;
+    private static final int WARMUP_REQUESTS = 500;
+
+    private static final String TEAM_MY = "team.my";
+    private static final String TEAM_MY_STORM = "team.my (login storm)";
+
+    /** 가상 사용자 (요청 번호 i가 사용자마다 겹치지 않으므로 토큰 필드는 volatile로 충분) */
+    private static final class User {
+        final String email;
+        final boolean leader;
+        final List<Long> teamIds = new ArrayList<>();
+        volatile String accessToken;
+        volatile String refreshToken;
+
+        User(String email, boolean leader) {
+            this.email = email;
+            this.leader = leader;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String profile = System.getProperty("loadtest.profile", "");
+        int memberCount = Integer.getInteger("loadtest.users", 200);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        int authConcurrency = Integer.getInteger("loadtest.authConcurrency", 0); // 0 = 코어 수 × 2
+        if (authConcurrency <= 0) {
+            authConcurrency = Runtime.getRuntime().availableProcessors() * 2;
+        }
+        int requests = Integer.getInteger("loadtest.requests", 5000);
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+        double stormTolerance = Double.parseDouble(System.getProperty("loadtest.stormTolerance", "0.5"));
+        String baselinePath = System.getProperty("loadtest.baseline", "loadtest-baseline.json"); // 빈 값 = 기준선 비교 안 함
+        File reportFile = new File(System.getProperty("loadtest.report", "build/loadtest/report.json"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+
+        LoadTestReport report;
+        try (LocalInfra infra = LocalInfra.start();
+             ConfigurableApplicationContext app = startApi(infra, profile)) {
+            String port = app.getEnvironment().getProperty("local.server.port");
+            report = run(new ApiClient("http://localhost:" + port),
+                    new LoadRunner(concurrency), new LoadRunner(authConcurrency), memberCount, requests);
+        }
+
+        report.write(reportFile);
+        System.out.println();
+        System.out.println("[loadtest] profile=" + (profile.isBlank() ? "default" : profile) + ", report=" + reportFile);
+        System.out.print(report.toTable());
+
+        int exitCode = 0;
+        List<String> failed = report.endpointsWithErrors();
+        if (!failed.isEmpty()) {
+            System.out.println("[loadtest] 실패 요청 있음 (에러 0건이어야 측정값으로 사용):");
+            failed.forEach(f -> System.out.println("  - " + f));
+            exitCode = 1;
+        }
+
+        if (!baselinePath.isBlank()) {
+            File baselineFile = new File(baselinePath);
+            if (updateBaseline && !failed.isEmpty()) {
+                System.out.println("[loadtest] 실패 요청이 있어 기준선을 저장하지 않음: " + baselineFile);
+            } else if (updateBaseline) {
+                report.write(baselineFile);
+                System.out.println("[loadtest] 기준선 저장 (검토 후 커밋): " + baselineFile);
+            } else if (!baselineFile.exists()) {
+                // 첫 실행 결과를 기준선으로 삼으면 회귀가 있어도 통과 → 검토된 기준선이 있어야 함
+                System.out.println("[loadtest] 기준선 없음: " + baselineFile + " (-PupdateBaseline으로 생성 후 커밋)");
+                exitCode = 1;
+            } else {
+                List<String> regressions = report.regressionsAgainst(LoadTestReport.read(baselineFile), tolerance);
+                if (regressions.isEmpty()) {
+                    System.out.println("[loadtest] 기준선 대비 회귀 없음 (허용치 " + (int) (tolerance * 100) + "%)");
+                } else {
+                    System.out.println("[loadtest] 기준선 대비 회귀 감지:");
+                    regressions.forEach(r -> System.out.println("  - " + r));
+                    exitCode = 1;
+                }
+            }
+        }
+
+        // 해싱 전용 풀이 CPU를 다 쓰지 않는지 (로그인 폭주가 일반 API 지연으로 번지지 않는지)
+        Optional<String> stormRegression = report.p99IncreaseOver(TEAM_MY, TEAM_MY_STORM, stormTolerance);
+        if (stormRegression.isPresent()) {
+            System.out.println("[loadtest] 로그인 폭주 중 지연 검사 실패 (허용치 " + (int) (stormTolerance * 100) + "%): " + stormRegression.get());
+            exitCode = 1;
+        } else {
+            System.out.println("[loadtest] 로그인 폭주 중 " + TEAM_MY + " p99 유지 (허용치 " + (int) (stormTolerance * 100) + "%)");
+        }
+        System.exit(exitCode); // 남아있는 non-daemon 스레드와 무관하게 종료
+    }
+
+    private static ConfigurableApplicationContext startApi(LocalInfra infra, String profile) {
+        String[] profiles = profile.isBlank() ? new String[]{"local"} : new String[]{"local", profile};
+        // 커맨드라인 인자로 넘겨야 application.yml의 local 프로필 값보다 우선순위가 높음
+        return new SpringApplicationBuilder(BudongsanApiApplication.class)
+                .profiles(profiles)
+                .run(
+                        "--spring.datasource.url=" + infra.jdbcUrl(),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.data.redis.host=localhost",
+                        "--spring.data.redis.port=" + infra.redisPort(),
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--logging.level.root=WARN"
+                );
+    }
+
+    /**
+     * @param runner     일반 API용
+     * @param authRunner BCrypt를 쓰는 요청용 (signup/login/로그인 폭주)
+     */
+    private static LoadTestReport run(ApiClient api, LoadRunner runner, LoadRunner authRunner, int memberCount, int requests) {
+        int leaderCount = Math.max(1, memberCount / 10);
+        List<User> users = new ArrayList<>(leaderCount + memberCount);
+        for (int i = 0; i < leaderCount; i++) {
+            users.add(new User("leader" + i + "@loadtest.com", true));
+        }
+        for (int i = 0; i < memberCount; i++) {
+            users.add(new User("member" + i + "@loadtest.com", false));
+        }
+        List<User> leaders = users.subList(0, leaderCount);
+        List<User> members = users.subList(leaderCount, users.size());
+        Map<Long, String> inviteCodes = new ConcurrentHashMap<>();
+
+        LoadTestReport report = new LoadTestReport();
+
+        report.add("auth.signup", authRunner.run(users.size(), i -> {
+            User user = users.get(i);
+            return api.post("/api/auth/signup", null, Map.of(
+                    "email", user.email,
+                    "password", PASSWORD,
+                    "name", "user" + i,
+                    "role", user.leader ? "LEADER" : "MEMBER"
+            )).ok();
+        }));
+
+        report.add("auth.login", authRunner.run(users.size(), i -> login(api, users.get(i))));
+
+        report.add("team.create", runner.run(leaderCount * TEAMS_PER_LEADER, i -> {
+            User leader = leaders.get(i % leaderCount);
+            ApiClient.Response response = api.post("/api/teams", leader.accessToken, Map.of("name", "team" + i));
+            if (!response.ok()) {
+                return false;
+            }
+            long teamId = response.data().path("id").asLong();
+            synchronized (leader.teamIds) {
+                leader.teamIds.add(teamId);
+            }
+            inviteCodes.put(teamId, response.data().path("inviteCode").asText());
+            return true;
+        }));
+
+        List<String> codes = List.copyOf(inviteCodes.values());
+        report.add("team.join", runner.run(memberCount, i -> {
+            User member = members.get(i);
+            ApiClient.Response response = api.post(
+                    "/api/teams/join?inviteCode=" + codes.get(i % codes.size()), member.accessToken, null);
+            if (response.ok()) {
+                member.accessToken = response.data().path("accessToken").asText(); // teamId가 담긴 새 토큰
+            }
+            return response.ok();
+        }));
+
+        // JIT 워밍업 (기록하지 않음)
+        runner.run(WARMUP_REQUESTS, i -> myTeams(api, randomOf(users)));
+
+        report.add(TEAM_MY, runner.run(requests, i -> myTeams(api, randomOf(users))));
+
+        report.add("team.members", runner.run(requests, i -> {
+            User leader = randomOf(leaders);
+            Long teamId = randomOf(leader.teamIds);
+            return api.get("/api/teams/" + teamId + "/members?size=20", leader.accessToken).ok();
+        }));
+
+        // 회전된 Refresh Token을 이어서 써야 하므로 사용자별로 한 번씩
+        report.add("auth.reissue", runner.run(users.size(), i -> {
+            User user = users.get(i);
+            ApiClient.Response response = api.post("/api/auth/reissue", null,
+                    Map.of("Refresh-Token", user.refreshToken), null);
+            if (response.ok()) {
+                user.accessToken = response.data().path("accessToken").asText();
+                user.refreshToken = response.data().path("refreshToken").asText();
+            }
+            return response.ok();
+        }));
+
+        // 로그인 폭주(BCrypt) 중에도 일반 API 지연이 유지되는지
+        // 폭주 로그인은 토큰을 저장하지 않음 (Refresh Token은 덮어써지므로 재발급 시나리오 뒤에 실행)
+        LoadRunner.Background storm = authRunner.runUntilStopped(i -> {
+            User user = randomOf(users);
+            return api.post("/api/auth/login", null, Map.of("email", user.email, "password", PASSWORD)).ok();
+        });
+        report.add(TEAM_MY_STORM, runner.run(requests, i -> myTeams(api, randomOf(users))));
+        report.add("auth.login (storm)", storm.stop());
+
+        report.add("auth.logout", runner.run(users.size(), i ->
+                api.post("/api/auth/logout", users.get(i).accessToken, null).ok()));
+
+        return report;
+    }
+
+    private static boolean login(ApiClient api, User user) {
+        ApiClient.Response response = api.post("/api/auth/login", null, Map.of("email", user.email, "password", PASSWORD));
+        if (response.ok()) {
+            user.accessToken = response.data().path("accessToken").asText();
+            user.refreshToken = response.data().path("refreshToken").asText();
+        }
+        return response.ok();
+    }
+
+    private static boolean myTeams(ApiClient api, User user) {
+        return api.get("/api/teams/my", user.accessToken).ok();
+    }
+
+    private static <T> T randomOf(List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+}
@@ -0,0 +1,142 @@
+package com.budongsan.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 부하 테스트 결과 (엔드포인트 이름 → 결과)
+ *
+ * JSON 파일로 저장해두고 다음 실행에서 기준선(baseline)으로 비교
+ */
+final class LoadTestReport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, EndpointResult> results;
+
+    LoadTestReport() {
+        this(new LinkedHashMap<>());
+    }
+
+    private LoadTestReport(Map<String, EndpointResult> results) {
+        this.results = results;
+    }
+
+    void add(String endpoint, EndpointStats stats) {
+        results.put(endpoint, stats.toResult());
+    }
+
+    static LoadTestReport read(File file) throws IOException {
+        return new LoadTestReport(OBJECT_MAPPER.readValue(file, new TypeReference<LinkedHashMap<String, EndpointResult>>() {}));
+    }
+
+    void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        OBJECT_MAPPER.writeValue(file, results);
+    }
+
+    /**
+     * 실패 요청이 있는 엔드포인트 목록
+     * 실패 응답은 빨리 끝나므로 에러가 섞인 실행의 지연 시간/처리량은 비교 근거가 되지 않음
+     * → 기준선 저장, 기준선 비교, 로그인 폭주 비교, 프로필 비교 모두 에러 0건인 실행만 사용
+     */
+    List<String> endpointsWithErrors() {
+        List<String> failed = new ArrayList<>();
+        results.forEach((endpoint, r) -> {
+            if (r.errors() > 0) {
+                failed.add("%s: 실패 %d/%d (%.2f%%)".formatted(endpoint, r.errors(), r.count(), r.errorRate() * 100));
+            }
+        });
+        return failed;
+    }
+
+    /**
+     * 기준선 대비 회귀 목록
+     * - p99 지연 시간이 tolerance 이상 증가
+     * - 처리량이 tolerance 이상 감소
+     * (에러는 허용치 없이 endpointsWithErrors로 따로 실패 처리)
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.endpointsWithErrors().forEach(failed -> regressions.add("기준선에 실패 요청 있음 (다시 생성 필요) - " + failed));
+        baseline.results.forEach((endpoint, base) -> {
+            EndpointResult current = results.get(endpoint);
+            if (current == null) {
+                regressions.add(endpoint + ": 측정 결과 없음");
+                return;
+            }
+            if (current.p99Ms() > base.p99Ms() * (1 + tolerance)) {
+                regressions.add("%s: p99 %.1fms → %.1fms".formatted(endpoint, base.p99Ms(), current.p99Ms()));
+            }
+            if (current.throughput() < base.throughput() * (1 - tolerance)) {
+                regressions.add("%s: 처리량 %.0f/s → %.0f/s".formatted(endpoint, base.throughput(), current.throughput()));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * 같은 실행 안에서 배경 부하 전후 p99 비교 (기준선 파일과 무관, 장비 성능 차이가 상쇄됨)
+     * 어느 쪽이든 실패 요청이 있으면 비교하지 않고 실패 (빠른 실패 응답이 p99를 낮춰 보이게 함)
+     *
+     * @return under의 p99가 base의 p99보다 tolerance 이상 높거나 에러가 있으면 설명, 아니면 빈 값
+     */
+    Optional<String> p99IncreaseOver(String base, String under, double tolerance) {
+        EndpointResult baseResult = results.get(base);
+        EndpointResult underResult = results.get(under);
+        if (baseResult == null || underResult == null) {
+            return Optional.of(under + ": 측정 결과 없음");
+        }
+        if (baseResult.errors() > 0 || underResult.errors() > 0) {
+            return Optional.of("실패 요청이 있어 비교 불가 (%s: %d건, %s: %d건)".formatted(
+                    base, baseResult.errors(), under, underResult.errors()));
+        }
+        if (underResult.p99Ms() > baseResult.p99Ms() * (1 + tolerance)) {
+            return Optional.of("%s: p99 %.1fms → %s: p99 %.1fms".formatted(
+                    base, baseResult.p99Ms(), under, underResult.p99Ms()));
+        }
+        return Optional.empty();
+    }
+
+    String toTable() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("%-28s %8s %7s %10s %9s %9s %9s%n".formatted("endpoint", "count", "err%", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+        results.forEach((endpoint, r) -> sb.append("%-28s %8d %6.2f%% %10.1f %9.1f %9.1f %9.1f%n".formatted(
+                endpoint, r.count(), r.errorRate() * 100, r.throughput(), r.p50Ms(), r.p95Ms(), r.p99Ms())));
+        return sb.toString();
+    }
+
+    /**
+     * 두 실행 결과를 엔드포인트별로 나란히 (마크다운 표)
+     * 처리량 변화는 left 대비 right 비율, 에러율이 다르면 지연 시간 비교는 의미가 약함 (실패 응답은 빠름)
+     */
+    static String sideBySide(String leftName, LoadTestReport left, String rightName, LoadTestReport right) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(("| endpoint | %1$s p50(ms) | %2$s p50(ms) | %1$s p99(ms) | %2$s p99(ms) "
+                + "| %1$s req/s | %2$s req/s | req/s 변화 | %1$s err%% | %2$s err%% |%n").formatted(leftName, rightName));
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|%n".formatted());
+        left.results.forEach((endpoint, l) -> {
+            EndpointResult r = right.results.get(endpoint);
+            if (r == null) {
+                return;
+            }
+            sb.append("| %s | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f | %+.0f%% | %.2f | %.2f |%n".formatted(
+                    endpoint, l.p50Ms(), r.p50Ms(), l.p99Ms(), r.p99Ms(), l.throughput(), r.throughput(),
+                    (r.throughput() / l.throughput() - 1) * 100, l.errorRate() * 100, r.errorRate() * 100));
+        });
+        return sb.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.budongsan.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 부하 테스트용 로컬 인프라 (Docker 없이 프로세스로 실행)
+ * - PostgreSQL: zonky embedded-postgres (docker-compose와 같은 16 버전)
+ * - Redis     : embedded-redis
+ */
+final class LocalInfra implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final int redisPort;
+
+    private LocalInfra(EmbeddedPostgres postgres, RedisServer redis, int redisPort) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.redisPort = redisPort;
+    }
+
+    static LocalInfra start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        return new LocalInfra(postgres, redis, redisPort);
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    int redisPort() {
+        return redisPort;
+    }
+
+    @Override
+    public void close() throws IOException {
+        redis.stop();
+        postgres.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.LocalDateTime;
 
@@ -17,15 +18,26 @@ import java.time.LocalDateTime;
  * @NoArgsConstructor(AccessLevel.PROTECTED)
  *   → 기본 생성자를 protected로 제한 (JPA 스펙 + 외부에서 new Member() 방지)
  *   → 객체 생성은 반드시 Builder로만!
+ * AbstractAggregateRoot
+ *   → 가입/팀 변경 시 MemberChangedEvent 등록, save() 할 때 자동 발행 (회원 캐시 무효화용)
  */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
-public class Member {
+@Table(name = "member", indexes = {
+        // 팀원 목록 keyset 조회용 (where team_id = ? and id > ? order by id)
+        @Index(name = "idx_member_team_id", columnList = "team_id, id")
+})
+public class Member extends AbstractAggregateRoot<Member> {
 
+    // 시퀀스 시작값 맞추기(IdSequenceAligner)에서도 사용
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 시퀀스 + pooled 할당 (한 번 조회로 id 50개 확보)
+    // IDENTITY는 INSERT를 실행해야 id를 알 수 있어 Hibernate가 insert batch를 끔 → 대량 등록을 위해 변경
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto increment
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -61,15 +73,23 @@ public class Member {
         this.password = password;
         this.name = name;
         this.role = role;
+        registerEvent(new MemberChangedEvent(email));
     }
 
     // 팀 가입 (팀원만 사용)
     public void joinTeam(Team team) {
         this.team = team;
+        registerEvent(new MemberChangedEvent(email));
     }
 
     // 팀 탈퇴
     public void leaveTeam() {
         this.team = null;
+        registerEvent(new MemberChangedEvent(email));
+    }
+
+    // 소속 팀 id (지연 로딩 프록시여도 id 조회는 추가 쿼리 없음)
+    public Long getTeamId() {
+        return team != null ? team.getId() : null;
     }
 }
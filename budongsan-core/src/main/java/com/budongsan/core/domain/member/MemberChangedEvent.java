@@ -0,0 +1,9 @@
+package com.budongsan.core.domain.member;
+
+/**
+ * 회원 정보 변경 이벤트 (가입, 팀 가입/탈퇴)
+ *
+ * Member 엔티티가 직접 등록하고, Repository.save() 시점에 Spring이 발행함
+ * → api 모듈의 회원 캐시가 받아서 해당 이메일의 캐시를 무효화
+ */
+public record MemberChangedEvent(String email) {}
@@ -0,0 +1,12 @@
+package com.budongsan.core.domain.property;
+
+/**
+ * 거래 유형 enum
+ *
+ * SALE         → 매매 (price = 매매가)
+ * JEONSE       → 전세 (price = 전세 보증금)
+ * MONTHLY_RENT → 월세 (price = 보증금, monthlyRent = 월세)
+ */
+public enum DealType {
+    SALE, JEONSE, MONTHLY_RENT
+}
@@ -0,0 +1,141 @@
+package com.budongsan.core.domain.property;
+
+import com.budongsan.core.domain.team.Team;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 엔티티 - DB의 property 테이블과 매핑
+ *
+ * 매물은 팀 단위로 관리 (팀원/팀장은 자기 팀 매물만 조회/수정)
+ * 금액 단위: 만원 (ex: 매매가 5억 → 50000)
+ *
+ * 인덱스 설계:
+ * 검색은 항상 "team_id = ? + 필터 + id 내림차순 keyset" 형태
+ * → 등호 필터 컬럼을 앞에, id를 맨 뒤에 두면 인덱스 순서대로 읽다가 LIMIT에서 바로 멈춤 (정렬 없음)
+ * → 가격/면적 같은 범위 조건은 읽는 도중에 걸러냄
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "property", indexes = {
+        // 필터 없음 / 범위 조건만 있을 때
+        @Index(name = "idx_property_team_id", columnList = "team_id, id"),
+        // 상태 필터 (ex: 거래 가능 매물만)
+        @Index(name = "idx_property_team_status", columnList = "team_id, status, id"),
+        // 거래 유형 (+ 상태) 필터
+        @Index(name = "idx_property_team_deal_status", columnList = "team_id, deal_type, status, id"),
+        // 지역 (+ 상태) 필터
+        @Index(name = "idx_property_team_district_status", columnList = "team_id, district, status, id"),
+        // 가격 범위가 좁을 때 (ex: 3억~3억5천 매매) → 옵티마이저가 범위 스캔 후 정렬을 선택
+        @Index(name = "idx_property_team_deal_price", columnList = "team_id, deal_type, price")
+})
+public class Property {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 소속 팀 (Team과 N:1 관계)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(nullable = false)
+    private String title; // 매물 제목 (ex: "역삼동 신축 투룸")
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DealType dealType;
+
+    @Column(nullable = false)
+    private long price; // 매매가 / 보증금 (만원)
+
+    private Long monthlyRent; // 월세 (만원, 월세 매물만)
+
+    @Column(nullable = false)
+    private double area; // 전용면적 (㎡)
+
+    @Column(nullable = false, length = 50)
+    private String district; // 구/군 (ex: "강남구")
+
+    @Column(nullable = false)
+    private String address; // 상세 주소
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PropertyStatus status;
+
+    @Column(length = 1000)
+    private String memo; // 내부 메모
+
+    // 좌표 (WGS84, 지도 표시용) - 좌표 없는 매물은 지도에 나오지 않음
+    private Double latitude;
+    private Double longitude;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public Property(Team team, String title, DealType dealType, long price, Long monthlyRent,
+                    double area, String district, String address, String memo,
+                    Double latitude, Double longitude) {
+        this.team = team;
+        this.title = title;
+        this.dealType = dealType;
+        this.price = price;
+        this.monthlyRent = dealType == DealType.MONTHLY_RENT ? monthlyRent : null;
+        this.area = area;
+        this.district = district;
+        this.address = address;
+        this.memo = memo;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.status = PropertyStatus.AVAILABLE;
+    }
+
+    // 매물 정보 수정 (상태는 changeStatus로만 변경)
+    public void update(String title, DealType dealType, long price, Long monthlyRent,
+                       double area, String district, String address, String memo,
+                       Double latitude, Double longitude) {
+        this.title = title;
+        this.dealType = dealType;
+        this.price = price;
+        this.monthlyRent = dealType == DealType.MONTHLY_RENT ? monthlyRent : null;
+        this.area = area;
+        this.district = district;
+        this.address = address;
+        this.memo = memo;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 상태 변경 (거래 가능 → 계약 중 → 거래 완료)
+    public void changeStatus(PropertyStatus status) {
+        this.status = status;
+    }
+
+    // 소속 팀 id (지연 로딩 프록시여도 id 조회는 추가 쿼리 없음)
+    public Long getTeamId() {
+        return team.getId();
+    }
+}
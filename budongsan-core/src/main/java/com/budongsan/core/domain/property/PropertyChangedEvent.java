@@ -0,0 +1,47 @@
+package com.budongsan.core.domain.property;
+
+/**
+ * 매물 변경 이벤트 (등록, 수정, 상태 변경, 엑셀 가져오기)
+ *
+ * 매물 서비스가 저장 후 발행 → 커밋 후 api 모듈이 모든 서버에 전파
+ * → 각 서버의 메모리 인덱스(지도 등)가 해당 매물/팀을 갱신
+ *
+ * @param propertyId 변경된 매물 (BULK_IMPORTED는 여러 건이라 null → 팀 전체 갱신)
+ * @param marker     변경 후 지도 표시 값 (좌표가 없거나 BULK_IMPORTED면 null)
+ *                   → 서버마다 이벤트 1건당 DB를 다시 조회하지 않도록 전파 메시지에 함께 실음
+ * @param text       변경 후 검색 텍스트 (CREATED / UPDATED만, 나머지는 텍스트가 그대로라 null)
+ *                   → 검색 인덱스도 marker와 같은 이유로 메시지 값만 사용
+ */
+public record PropertyChangedEvent(Long teamId, Long propertyId, Type type, MapMarker marker, SearchText text) {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, BULK_IMPORTED
+    }
+
+    /**
+     * 지도 마커 값 (api의 PropertyMapMarker에서 id를 뺀 것)
+     */
+    public record MapMarker(double latitude, double longitude, DealType dealType, PropertyStatus status, long price) {
+    }
+
+    /**
+     * 검색 텍스트 (api의 PropertySearchDocument에서 id를 뺀 것)
+     */
+    public record SearchText(String title, String address, String memo) {
+    }
+
+    public static PropertyChangedEvent of(Property property, Type type) {
+        MapMarker marker = property.getLatitude() != null && property.getLongitude() != null
+                ? new MapMarker(property.getLatitude(), property.getLongitude(),
+                        property.getDealType(), property.getStatus(), property.getPrice())
+                : null;
+        SearchText text = type == Type.CREATED || type == Type.UPDATED
+                ? new SearchText(property.getTitle(), property.getAddress(), property.getMemo())
+                : null;
+        return new PropertyChangedEvent(property.getTeamId(), property.getId(), type, marker, text);
+    }
+
+    public static PropertyChangedEvent bulkImported(Long teamId) {
+        return new PropertyChangedEvent(teamId, null, Type.BULK_IMPORTED, null, null);
+    }
+}
@@ -0,0 +1,114 @@
+package com.budongsan.core.domain.property;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 엑셀 가져오기 작업 엔티티 - DB의 property_import_job 테이블과 매핑
+ *
+ * chunk 원장(ledger) 역할:
+ * chunk의 매물 INSERT와 같은 트랜잭션에서 lastCommittedRow / 행 수를 갱신
+ * → 서버가 중간에 죽어도 "어디까지 저장됐는지"가 매물 데이터와 항상 일치
+ * → 재시작 시 lastCommittedRow 다음 행부터 이어서 가져오기 (중복 저장 없음)
+ *
+ * 진행 상황 조회(폴링/스트림)는 Redis에서 하고, 이 테이블은 재개 기준으로만 사용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "property_import_job", indexes = {
+        // 재시작 시 끝나지 않은 작업 조회
+        @Index(name = "idx_property_import_job_status", columnList = "status")
+})
+public class PropertyImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long teamId; // 가져올 팀
+
+    @Column(nullable = false)
+    private Long requestedBy; // 업로드한 회원 id
+
+    @Column(nullable = false)
+    private String originalFilename;
+
+    @Column(nullable = false, length = 500)
+    private String storedPath; // 서버에 보관한 업로드 파일 경로 (완료 후 삭제)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PropertyImportJobStatus status;
+
+    private int lastCommittedRow; // 마지막으로 커밋된 chunk의 마지막 엑셀 행 번호 (0 = 아직 없음)
+    private int committedChunks;
+    private int importedRows;     // 커밋된 저장 행 수
+    private int failedRows;       // 커밋된 chunk 안의 검증 실패 행 수
+
+    @Column(length = 500)
+    private String failureMessage; // FAILED일 때 사유
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public PropertyImportJob(Long teamId, Long requestedBy, String originalFilename, String storedPath) {
+        this.teamId = teamId;
+        this.requestedBy = requestedBy;
+        this.originalFilename = originalFilename;
+        this.storedPath = storedPath;
+        this.status = PropertyImportJobStatus.QUEUED;
+    }
+
+    // 실행 시작 (재시작 후 이어서 실행할 때도 호출)
+    public void start() {
+        this.status = PropertyImportJobStatus.RUNNING;
+    }
+
+    // chunk 커밋 기록 (매물 INSERT와 같은 트랜잭션에서 호출)
+    public void commitChunk(int lastRow, int imported, int failed) {
+        this.lastCommittedRow = lastRow;
+        this.committedChunks++;
+        this.importedRows += imported;
+        this.failedRows += failed;
+    }
+
+    public void complete() {
+        this.status = PropertyImportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = PropertyImportJobStatus.FAILED;
+        this.failureMessage = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // 처리된 행 수 (저장 + 검증 실패)
+    public int getProcessedRows() {
+        return importedRows + failedRows;
+    }
+}
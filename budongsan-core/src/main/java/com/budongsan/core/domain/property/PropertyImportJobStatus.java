@@ -0,0 +1,17 @@
+package com.budongsan.core.domain.property;
+
+/**
+ * 매물 엑셀 가져오기 작업 상태 enum
+ *
+ * QUEUED    → 업로드 완료, 실행 대기
+ * RUNNING   → 실행 중 (서버 재시작 시 마지막 커밋 chunk 다음부터 이어서 실행)
+ * COMPLETED → 완료
+ * FAILED    → 실패 (파일 손상 등, 이미 커밋된 chunk는 유지)
+ */
+public enum PropertyImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
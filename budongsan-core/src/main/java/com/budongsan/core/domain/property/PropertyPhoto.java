@@ -0,0 +1,69 @@
+package com.budongsan.core.domain.property;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 사진 엔티티 - DB의 property_photo 테이블과 매핑
+ *
+ * 파일은 서버 디스크에 저장하고 DB에는 메타데이터만 보관
+ * 저장 파일명은 UUID라 내용이 절대 바뀌지 않음 → 응답에 장기 캐시 헤더를 붙일 수 있음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "property_photo", indexes = {
+        // 매물별 사진 목록 (등록순)
+        @Index(name = "idx_property_photo_property_id", columnList = "property_id, id")
+})
+public class PropertyPhoto {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 소속 매물 (Property와 N:1 관계)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id", nullable = false)
+    private Property property;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String storedName; // 저장 파일명 (ex: "3f2a...c1.jpg")
+
+    @Column(nullable = false)
+    private String originalFilename;
+
+    @Column(nullable = false, length = 100)
+    private String contentType; // ex: "image/jpeg"
+
+    private long size; // 바이트
+
+    private boolean thumbnailReady; // 썸네일 생성 완료 여부 (비동기 생성)
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public PropertyPhoto(Property property, String storedName, String originalFilename,
+                         String contentType, long size) {
+        this.property = property;
+        this.storedName = storedName;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    public void markThumbnailReady() {
+        this.thumbnailReady = true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.budongsan.core.domain.property;
+
+/**
+ * 매물 상태 enum
+ *
+ * AVAILABLE  → 거래 가능 (등록 시 기본값)
+ * RESERVED   → 계약 진행 중
+ * CONTRACTED → 거래 완료
+ */
+public enum PropertyStatus {
+    AVAILABLE, RESERVED, CONTRACTED
+}
@@ -10,7 +10,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 팀 엔티티 - DB의 team 테이블과 매핑
@@ -24,15 +23,20 @@ import java.util.UUID;
 @Table(name = "team")
 public class Team {
 
+    // 시퀀스 시작값 맞추기(IdSequenceAligner)에서도 사용
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 시퀀스 + pooled 할당 (Member와 같은 이유, insert batch 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq")
+    @SequenceGenerator(name = "team_seq", sequenceName = "team_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
     private String name; // 팀 이름
 
     @Column(nullable = false, unique = true)
-    private String inviteCode; // 초대코드 (UUID 기반, 유일값)
+    private String inviteCode; // 초대코드 (api 모듈의 초대코드 풀에서 발급, 유일값)
 
     // 팀장 (Member와 N:1 관계 - 한 팀장이 여러 팀 생성 가능)
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,13 +54,15 @@ public class Team {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
-        // 초대코드 자동 생성 (UUID 앞 8자리만 사용, ex: "a1b2c3d4")
-        this.inviteCode = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
+    /**
+     * @param inviteCode 중복 확인을 마친 초대코드 (저장 시점에 유니크 제약 위반이 나지 않도록 미리 발급)
+     */
     @Builder
-    public Team(String name, Member leader) {
+    public Team(String name, Member leader, String inviteCode) {
         this.name = name;
         this.leader = leader;
+        this.inviteCode = inviteCode;
     }
 }
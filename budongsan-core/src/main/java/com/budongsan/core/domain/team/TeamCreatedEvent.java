@@ -0,0 +1,8 @@
+package com.budongsan.core.domain.team;
+
+/**
+ * 팀 생성 이벤트
+ *
+ * 팀 서비스가 저장 후 발행 → 커밋 후 api 모듈의 초대코드 색인(Redis)에 등록
+ */
+public record TeamCreatedEvent(Long teamId, String inviteCode) {}
@@ -0,0 +1,9 @@
+package com.budongsan.core.domain.team;
+
+/**
+ * 팀원 가입 이벤트
+ *
+ * 팀 서비스가 가입 처리 후 발행 → 커밋 후 api 모듈이 모든 서버에 전파
+ * → 해당 팀 대시보드의 실시간 스트림(SSE)으로 전송
+ */
+public record TeamMemberJoinedEvent(Long teamId, Long memberId, String memberName) {}
@@ -11,13 +11,18 @@ package com.budongsan.core.exception;
  *
  * 이렇게 던지면 GlobalExceptionHandler가 받아서
  * ApiResponse.fail("이미 사용 중인 이메일입니다.") 형태로 응답함
+ *
+ * 스택 트레이스는 5xx(서버 문제)일 때만 채움
+ * → 4xx(잘못된 토큰/비밀번호, 없는 데이터 등)는 예상된 결과라 스택이 필요 없고,
+ *   토큰 재사용/무작위 로그인 공격처럼 대량으로 던져질 때 fillInStackTrace 비용이 큼
  */
 public class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;  // 어떤 에러인지 담아둠
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());  // 부모 클래스(RuntimeException)에 메시지 전달
+        // 부모 클래스(RuntimeException)에 메시지 전달, 4xx면 스택 트레이스 생략
+        super(errorCode.getMessage(), null, false, errorCode.getHttpStatus().is5xxServerError());
         this.errorCode = errorCode;
     }
 
@@ -15,6 +15,7 @@ import org.springframework.http.HttpStatus;
  * - 404: 찾을 수 없음 (ex: 없는 매물)
  * - 409: 충돌 (ex: 이미 가입된 이메일)
  * - 500: 서버 내부 오류
+ * - 503: 일시적으로 처리 불가 (ex: 로그인 폭주)
  */
 public enum ErrorCode {
 
@@ -28,13 +29,24 @@ public enum ErrorCode {
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    ROSTER_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 등록할 수 있는 회원 수를 초과했습니다."),
 
     // ── 토큰 ───────────────────────────────────────────────
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 토큰입니다. 다시 로그인해주세요."),
+    TOKEN_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "인증 처리를 일시적으로 할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // ── 팀 ─────────────────────────────────────────────────
+    INVALID_INVITE_CODE(HttpStatus.NOT_FOUND, "유효하지 않은 초대코드입니다."),
+    STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // ── 매물 ───────────────────────────────────────────────
     PROPERTY_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 매물입니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 가져오기 작업입니다."),
+    PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 사진입니다."),
+    PHOTO_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "매물당 등록할 수 있는 사진 수를 초과했습니다."),
 
     // ── 파일 ───────────────────────────────────────────────
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다."),
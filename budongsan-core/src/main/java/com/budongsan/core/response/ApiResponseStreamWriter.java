@@ -0,0 +1,64 @@
+package com.budongsan.core.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 목록 응답 스트리밍 쓰기 (ApiResponse와 같은 JSON 모양)
+ *
+ * ApiResponse.success(message, list)는 목록 전체 + DTO를 메모리에 올린 뒤 한 번에 직렬화
+ * → 요소를 하나씩 꺼내 바로 출력 스트림에 씀 (DB 커서 스트림이면 fetch size만큼만 메모리에 있음)
+ *
+ * 출력: { "success": true, "message": "...", "data": [ {...}, {...}, ... ] }
+ * → ApiResponse 필드 순서/이름 그대로라 클라이언트는 구분하지 못함
+ *
+ * 첫 요소를 꺼낸 뒤에 쓰기 시작 → 쿼리 실행 실패 등은 아직 아무것도 쓰지 않은 상태라 일반 에러 응답으로 나감
+ * 쓰는 도중 실패하면 (이미 200 전송) 응답이 중간에 끊김 → 클라이언트 JSON 파싱 실패로 드러남
+ *
+ * DB 커서 스트림을 넘길 때는 호출하는 쪽에서 다 쓸 때까지 트랜잭션을 유지해야 함 (PropertyExportService와 같은 방식)
+ */
+@Component
+public class ApiResponseStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ApiResponseStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 성공 응답 쓰기 (스트림은 호출하는 쪽에서 닫음)
+     */
+    public void writeSuccess(OutputStream out, String message, Stream<?> data) throws IOException {
+        writeSuccess(out, message, data.iterator());
+    }
+
+    public void writeSuccess(OutputStream out, String message, Iterator<?> data) throws IOException {
+        boolean hasFirst = data.hasNext(); // 커서 스트림이면 여기서 쿼리 실행
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            if (message != null) { // ApiResponse의 NON_NULL과 동일
+                generator.writeStringField("message", message);
+            }
+            generator.writeArrayFieldStart("data");
+            if (hasFirst) {
+                do {
+                    generator.writeObject(data.next());
+                } while (data.hasNext());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.budongsan.core.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ *
+ * OFFSET 페이지네이션은 뒤 페이지로 갈수록 앞의 행을 모두 건너뛰느라 느려짐
+ * → 마지막으로 받은 id(next)를 다음 요청의 cursor로 넘기면 항상 인덱스에서 바로 이어서 조회
+ *
+ * 예시:
+ * { "content": [ ... ], "next": 120 }   → 다음 요청: ?cursor=120
+ * { "content": [ ... ], "next": null }  → 마지막 페이지
+ *
+ * @param <T> 항목 타입
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        Long next
+) {
+    /**
+     * size + 1 개를 조회한 결과로 페이지 생성
+     * 초과분이 있으면 다음 페이지가 있다는 뜻 → 마지막 항목의 id를 next로
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorResponse<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorResponse<>(content, idExtractor.apply(content.get(size - 1)));
+    }
+}